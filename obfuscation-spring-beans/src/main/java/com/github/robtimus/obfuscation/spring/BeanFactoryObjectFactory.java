@@ -20,12 +20,16 @@ package com.github.robtimus.obfuscation.spring;
 import java.util.Objects;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.config.SingletonBeanRegistry;
 import com.github.robtimus.obfuscation.annotation.ObjectFactory;
 
 /**
  * An {@link ObjectFactory} that is backed by an {@link AutowireCapableBeanFactory}.
  * It will try to lookup a bean of the given type first. If none is available, a new instance is created using the backing bean factory.
  * This allows created instances to have autowired fields of their own.
+ * <p>
+ * If a {@link ProviderCachingBeanFactoryPostProcessor} is activated for the backing bean factory, created instances are reused for as long as the
+ * bean factory is active. Otherwise, a new instance is created each time.
  *
  * @author Rob Spoor
  */
@@ -46,6 +50,15 @@ public class BeanFactoryObjectFactory implements ObjectFactory {
     @Override
     public <T> T instance(Class<T> type) {
         ObjectProvider<T> beanProvider = beanFactory.getBeanProvider(type);
-        return beanProvider.getIfAvailable(() -> beanFactory.createBean(type));
+        return beanProvider.getIfAvailable(() -> createInstance(type));
+    }
+
+    private <T> T createInstance(Class<T> type) {
+        if (beanFactory instanceof SingletonBeanRegistry singletonBeanRegistry
+                && singletonBeanRegistry.getSingleton(ProviderInstanceCache.BEAN_NAME) instanceof ProviderInstanceCache instanceCache) {
+
+            return instanceCache.instance(type);
+        }
+        return beanFactory.createBean(type);
     }
 }
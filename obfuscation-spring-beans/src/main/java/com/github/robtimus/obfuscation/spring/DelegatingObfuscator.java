@@ -0,0 +1,210 @@
+/*
+ * DelegatingObfuscator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import com.github.robtimus.obfuscation.Obfuscator;
+
+/**
+ * Base class for obfuscators that delegate to another obfuscator, for instance obfuscators returned by an {@link ObfuscatorDecorator}.
+ * <p>
+ * All obfuscation methods except {@link #streamTo(Appendable)} call {@link #before()} and {@link #after(long, int)} around the call to the
+ * delegate. Sub classes can override these methods to record metrics or events. Streaming obfuscation is spread across several calls, so it's
+ * not recorded. The delegate is called directly, so obfuscating does not allocate any objects other than those allocated by the delegate or
+ * the hooks.
+ *
+ * @author Rob Spoor
+ * @since 3.1
+ */
+public abstract class DelegatingObfuscator extends Obfuscator {
+
+    /**
+     * A value for the input length that indicates the input length is not known, for instance when obfuscating the contents of a
+     * {@link Reader}.
+     */
+    protected static final int UNKNOWN_LENGTH = -1;
+
+    /**
+     * Creates a new delegating obfuscator.
+     */
+    protected DelegatingObfuscator() {
+    }
+
+    /**
+     * Returns the obfuscator to delegate to. This method is called once for each obfuscation.
+     *
+     * @return The obfuscator to delegate to.
+     */
+    protected abstract Obfuscator delegate();
+
+    /**
+     * Returns whether or not the obfuscator returned by {@link #delegate()} can be replaced.
+     * If so, {@link com.github.robtimus.obfuscation.Obfuscated Obfuscated} values created by this obfuscator are not cached, because cached
+     * values would keep using the replaced obfuscator.
+     * <p>
+     * This implementation returns {@code false}.
+     *
+     * @return {@code true} if the obfuscator to delegate to can be replaced, or {@code false} otherwise.
+     */
+    protected boolean isDelegateReplaceable() {
+        return false;
+    }
+
+    // Returns true if the given obfuscator, or any obfuscator it delegates to, can have its delegate replaced
+    static boolean isReplaceable(Obfuscator obfuscator) {
+        Obfuscator current = obfuscator;
+        while (current instanceof DelegatingObfuscator delegatingObfuscator) {
+            if (delegatingObfuscator.isDelegateReplaceable()) {
+                return true;
+            }
+            current = delegatingObfuscator.delegate();
+        }
+        return false;
+    }
+
+    /**
+     * Called before a single obfuscation is performed. This implementation returns {@code 0}.
+     *
+     * @return A value that is passed to {@link #after(long, int)}, for instance a start time.
+     */
+    protected long before() {
+        return 0;
+    }
+
+    /**
+     * Called after a single obfuscation is performed, even if the obfuscation failed. This implementation does nothing.
+     *
+     * @param start The value returned by {@link #before()}.
+     * @param inputLength The length of the text that was obfuscated, or {@link #UNKNOWN_LENGTH} if it is not known.
+     */
+    protected void after(long start, int inputLength) {
+        // does nothing
+    }
+
+    @Override
+    public CharSequence obfuscateText(CharSequence s) {
+        long start = before();
+        try {
+            return delegate().obfuscateText(s);
+        } finally {
+            after(start, s.length());
+        }
+    }
+
+    @Override
+    public CharSequence obfuscateText(CharSequence s, int start, int end) {
+        long before = before();
+        try {
+            return delegate().obfuscateText(s, start, end);
+        } finally {
+            after(before, end - start);
+        }
+    }
+
+    @Override
+    public void obfuscateText(CharSequence s, StringBuilder destination) {
+        long start = before();
+        try {
+            delegate().obfuscateText(s, destination);
+        } finally {
+            after(start, s.length());
+        }
+    }
+
+    @Override
+    public void obfuscateText(CharSequence s, int start, int end, StringBuilder destination) {
+        long before = before();
+        try {
+            delegate().obfuscateText(s, start, end, destination);
+        } finally {
+            after(before, end - start);
+        }
+    }
+
+    @Override
+    public void obfuscateText(CharSequence s, StringBuffer destination) {
+        long start = before();
+        try {
+            delegate().obfuscateText(s, destination);
+        } finally {
+            after(start, s.length());
+        }
+    }
+
+    @Override
+    public void obfuscateText(CharSequence s, int start, int end, StringBuffer destination) {
+        long before = before();
+        try {
+            delegate().obfuscateText(s, start, end, destination);
+        } finally {
+            after(before, end - start);
+        }
+    }
+
+    @Override
+    public void obfuscateText(CharSequence s, Appendable destination) throws IOException {
+        long start = before();
+        try {
+            delegate().obfuscateText(s, destination);
+        } finally {
+            after(start, s.length());
+        }
+    }
+
+    @Override
+    public void obfuscateText(CharSequence s, int start, int end, Appendable destination) throws IOException {
+        long before = before();
+        try {
+            delegate().obfuscateText(s, start, end, destination);
+        } finally {
+            after(before, end - start);
+        }
+    }
+
+    @Override
+    public CharSequence obfuscateText(Reader input) throws IOException {
+        long start = before();
+        try {
+            return delegate().obfuscateText(input);
+        } finally {
+            after(start, UNKNOWN_LENGTH);
+        }
+    }
+
+    @Override
+    public void obfuscateText(Reader input, Appendable destination) throws IOException {
+        long start = before();
+        try {
+            delegate().obfuscateText(input, destination);
+        } finally {
+            after(start, UNKNOWN_LENGTH);
+        }
+    }
+
+    @Override
+    public Writer streamTo(Appendable destination) {
+        return delegate().streamTo(destination);
+    }
+
+    @Override
+    public String toString() {
+        return delegate().toString();
+    }
+}
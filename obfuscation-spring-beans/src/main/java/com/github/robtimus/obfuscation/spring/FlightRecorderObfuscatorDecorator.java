@@ -0,0 +1,176 @@
+/*
+ * FlightRecorderObfuscatorDecorator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import java.io.IOException;
+import java.io.Reader;
+import com.github.robtimus.obfuscation.Obfuscator;
+
+/**
+ * An {@link ObfuscatorDecorator} that emits JDK Flight Recorder events when obfuscating text.
+ * <p>
+ * The events are named {@code com.github.robtimus.obfuscation.spring.Obfuscation}, and are disabled by default. They can be enabled using JFR
+ * settings, for instance in a custom {@code .jfc} file or using {@code jcmd <pid> JFR.configure}. Their fields include the obfuscation mode or
+ * obfuscator name, the input length, and the duration.
+ * <p>
+ * Note that obfuscators are only decorated if a bean of this type is available. Obfuscators that are decorated while the event is disabled can
+ * still emit events once it is enabled.
+ *
+ * @author Rob Spoor
+ * @since 3.1
+ */
+public class FlightRecorderObfuscatorDecorator implements ObfuscatorDecorator {
+
+    @Override
+    public Obfuscator decorate(Obfuscator obfuscator, String name) {
+        return new RecordingObfuscator(obfuscator, name);
+    }
+
+    private static final class RecordingObfuscator extends DelegatingObfuscator {
+
+        private final Obfuscator delegate;
+        private final String name;
+
+        private RecordingObfuscator(Obfuscator delegate, String name) {
+            this.delegate = delegate;
+            this.name = name;
+        }
+
+        @Override
+        protected Obfuscator delegate() {
+            return delegate;
+        }
+
+        // The event needs to span the call to the delegate, so the obfuscation methods are overridden instead of before() and after(long, int)
+
+        @Override
+        public CharSequence obfuscateText(CharSequence s) {
+            ObfuscationEvent event = begin();
+            try {
+                return delegate.obfuscateText(s);
+            } finally {
+                commit(event, s.length());
+            }
+        }
+
+        @Override
+        public CharSequence obfuscateText(CharSequence s, int start, int end) {
+            ObfuscationEvent event = begin();
+            try {
+                return delegate.obfuscateText(s, start, end);
+            } finally {
+                commit(event, end - start);
+            }
+        }
+
+        @Override
+        public void obfuscateText(CharSequence s, StringBuilder destination) {
+            ObfuscationEvent event = begin();
+            try {
+                delegate.obfuscateText(s, destination);
+            } finally {
+                commit(event, s.length());
+            }
+        }
+
+        @Override
+        public void obfuscateText(CharSequence s, int start, int end, StringBuilder destination) {
+            ObfuscationEvent event = begin();
+            try {
+                delegate.obfuscateText(s, start, end, destination);
+            } finally {
+                commit(event, end - start);
+            }
+        }
+
+        @Override
+        public void obfuscateText(CharSequence s, StringBuffer destination) {
+            ObfuscationEvent event = begin();
+            try {
+                delegate.obfuscateText(s, destination);
+            } finally {
+                commit(event, s.length());
+            }
+        }
+
+        @Override
+        public void obfuscateText(CharSequence s, int start, int end, StringBuffer destination) {
+            ObfuscationEvent event = begin();
+            try {
+                delegate.obfuscateText(s, start, end, destination);
+            } finally {
+                commit(event, end - start);
+            }
+        }
+
+        @Override
+        public void obfuscateText(CharSequence s, Appendable destination) throws IOException {
+            ObfuscationEvent event = begin();
+            try {
+                delegate.obfuscateText(s, destination);
+            } finally {
+                commit(event, s.length());
+            }
+        }
+
+        @Override
+        public void obfuscateText(CharSequence s, int start, int end, Appendable destination) throws IOException {
+            ObfuscationEvent event = begin();
+            try {
+                delegate.obfuscateText(s, start, end, destination);
+            } finally {
+                commit(event, end - start);
+            }
+        }
+
+        @Override
+        public CharSequence obfuscateText(Reader input) throws IOException {
+            ObfuscationEvent event = begin();
+            try {
+                return delegate.obfuscateText(input);
+            } finally {
+                commit(event, UNKNOWN_LENGTH);
+            }
+        }
+
+        @Override
+        public void obfuscateText(Reader input, Appendable destination) throws IOException {
+            ObfuscationEvent event = begin();
+            try {
+                delegate.obfuscateText(input, destination);
+            } finally {
+                commit(event, UNKNOWN_LENGTH);
+            }
+        }
+
+        private static ObfuscationEvent begin() {
+            ObfuscationEvent event = new ObfuscationEvent();
+            event.begin();
+            return event;
+        }
+
+        private void commit(ObfuscationEvent event, int inputLength) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.mode = name;
+                event.inputLength = inputLength;
+                event.commit();
+            }
+        }
+    }
+}
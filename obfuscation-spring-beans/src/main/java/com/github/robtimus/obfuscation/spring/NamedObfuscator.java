@@ -0,0 +1,49 @@
+/*
+ * NamedObfuscator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import com.github.robtimus.obfuscation.Obfuscated;
+import com.github.robtimus.obfuscation.Obfuscator;
+
+/**
+ * Indicates that an {@link Obfuscator} or {@link Obfuscated} injection point should use an obfuscator from the {@link ObfuscatorRegistry} bean.
+ * <p>
+ * The obfuscator is looked up once per injection point. If no {@link ObfuscatorRegistry} bean exists, or it does not contain an obfuscator with
+ * the given name, resolving the injection point fails. If an injection point has both this annotation and another obfuscator annotation like
+ * {@link com.github.robtimus.obfuscation.annotation.ObfuscateFixedLength ObfuscateFixedLength}, this annotation takes precedence.
+ *
+ * @author Rob Spoor
+ * @since 3.1
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.PARAMETER })
+public @interface NamedObfuscator {
+
+    /**
+     * The name of the obfuscator in the {@link ObfuscatorRegistry} bean.
+     *
+     * @return The name of the obfuscator.
+     */
+    String value();
+}
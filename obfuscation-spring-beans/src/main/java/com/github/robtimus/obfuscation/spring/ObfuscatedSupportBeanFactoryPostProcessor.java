@@ -17,20 +17,11 @@
 
 package com.github.robtimus.obfuscation.spring;
 
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
 import org.springframework.beans.BeansException;
-import org.springframework.beans.TypeConverter;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.beans.factory.config.BeanDefinitionHolder;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
-import org.springframework.beans.factory.config.DependencyDescriptor;
-import org.springframework.beans.factory.support.AutowireCandidateResolver;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
-import org.springframework.core.MethodParameter;
-import org.springframework.core.ResolvableType;
-import org.springframework.core.convert.TypeDescriptor;
 import com.github.robtimus.obfuscation.Obfuscated;
 import com.github.robtimus.obfuscation.Obfuscator;
 import com.github.robtimus.obfuscation.annotation.CharacterRepresentationProvider;
@@ -49,7 +40,9 @@ import com.github.robtimus.obfuscation.annotation.RepresentedBy;
  *     with {@link Value}, it can be a bean, or anything else that has default autowiring support.
  * <li>Finding the obfuscator to use. The type of {@link Obfuscator} is determined as follows:
  *   <ul>
- *   <li>If the {@link Obfuscated} field, constructor argument or method argument is annotated with an {@link Obfuscator} annotation like
+ *   <li>If the {@link Obfuscated} field, constructor argument or method argument is annotated with {@link NamedObfuscator}, the obfuscator
+ *       with the annotation's name is taken from the {@link ObfuscatorRegistry} bean.</li>
+ *   <li>Otherwise, if the {@link Obfuscated} field, constructor argument or method argument is annotated with an {@link Obfuscator} annotation like
  *       {@link ObfuscateAll}, {@link ObfuscateFixedLength} or {@link ObfuscateUsing}, the autowired {@link Obfuscated} will match the annotation.
  *       </li>
  *   <li>Otherwise, if a bean of type {@link Obfuscator} is available, that will be autowired.</li>
@@ -64,169 +57,51 @@ import com.github.robtimus.obfuscation.annotation.RepresentedBy;
  * <p>
  * The {@link Obfuscator} and character representation are used to wrap the value to obfuscate in an {@link Obfuscated} instance, which will then be
  * autowired.
+ * <p>
+ * This post processor can be combined with {@link ObfuscatorSupportBeanFactoryPostProcessor}.
+ * If both are activated, the support for both is provided by one single autowire candidate resolver.
+ * <p>
+ * By default, a bean that is wrapped in an {@link Obfuscated} instance is created when the {@link Obfuscated} instance is autowired.
+ * Use {@link #setLazy(boolean)} to wrap lazy resolution proxies instead, like for {@code Lazy} annotated fields and arguments.
+ * The bean is then only created when the value of the {@link Obfuscated} instance is used, or when its string representation is requested.
  *
  * @author Rob Spoor
  */
 public class ObfuscatedSupportBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
 
-    @Override
-    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
-        DefaultListableBeanFactory listableBeanFactory = (DefaultListableBeanFactory) beanFactory;
-        listableBeanFactory.setAutowireCandidateResolver(new ObfuscatedAutowireCandidateResolver(listableBeanFactory));
-        listableBeanFactory.setTypeConverter(new ObfuscatedTypeConverter(listableBeanFactory));
+    private boolean lazy = false;
+    private boolean internValues = false;
+
+    /**
+     * Sets whether or not beans that are wrapped in {@link Obfuscated} instances should be resolved lazily.
+     * This only applies to beans of interface types or non-final class types, and requires {@code spring-context} to be available.
+     * The default is {@code false}.
+     *
+     * @param lazy {@code true} to resolve beans that are wrapped in {@link Obfuscated} instances lazily, or {@code false} otherwise.
+     * @since 3.1
+     */
+    public void setLazy(boolean lazy) {
+        this.lazy = lazy;
     }
 
-    private static final class ObfuscatedAutowireCandidateResolver extends ObfuscatorSupport implements AutowireCandidateResolver {
-
-        private final AutowireCandidateResolver delegate;
-
-        private ObfuscatedAutowireCandidateResolver(DefaultListableBeanFactory beanFactory) {
-            this(beanFactory.getAutowireCandidateResolver(), beanFactory);
-        }
-
-        private ObfuscatedAutowireCandidateResolver(AutowireCandidateResolver delegate, DefaultListableBeanFactory beanFactory) {
-            super(beanFactory);
-            this.delegate = delegate;
-        }
-
-        @Override
-        public boolean isAutowireCandidate(BeanDefinitionHolder bdHolder, DependencyDescriptor descriptor) {
-            return delegate.isAutowireCandidate(bdHolder, descriptor);
-        }
-
-        @Override
-        public boolean isRequired(DependencyDescriptor descriptor) {
-            return delegate.isRequired(descriptor);
-        }
-
-        @Override
-        public boolean hasQualifier(DependencyDescriptor descriptor) {
-            return delegate.hasQualifier(descriptor);
-        }
-
-        @Override
-        public Object getSuggestedValue(DependencyDescriptor descriptor) {
-            if (Obfuscated.class.isAssignableFrom(descriptor.getDependencyType())) {
-                DependencyDescriptor genericDescriptor = genericType(descriptor);
-
-                // Delegate not to delegate but beanFactory's actual autowire candidate resolver.
-                // This allows this autowire candidate resolver to be nested in another delegating autowire candidate resolver implementation
-                // and use the delegating implementations.
-                // This will not trigger this block again due to the different dependency descriptor
-                Object result = beanFactory().getAutowireCandidateResolver().getSuggestedValue(genericDescriptor);
-                if (result == null) {
-                    result = beanFactory().getBeanProvider(genericDescriptor.getDependencyType()).getIfAvailable();
-                }
-                // Do not wrap in Obfuscated just yet, as that will prevent any possible @Value resolving
-                // Instead, let the TypeConverter convert the value instead.
-                return result;
-            }
-            return delegate.getSuggestedValue(descriptor);
-        }
-
-        @Override
-        public Object getLazyResolutionProxyIfNecessary(DependencyDescriptor descriptor, String beanName) {
-            if (Obfuscated.class.isAssignableFrom(descriptor.getDependencyType())) {
-                DependencyDescriptor genericDescriptor = genericType(descriptor);
-
-                Object result = beanFactory().getAutowireCandidateResolver().getLazyResolutionProxyIfNecessary(genericDescriptor, beanName);
-                if (result != null) {
-                    Annotation[] annotations = descriptor.getAnnotations();
-                    Obfuscator obfuscator = obfuscator(annotations);
-
-                    result = obfuscateValue(result, obfuscator, annotations, genericDescriptor.getResolvableType().getRawClass());
-                }
-                return result;
-            }
-            return delegate.getLazyResolutionProxyIfNecessary(descriptor, beanName);
-        }
-
-        @Override
-        public AutowireCandidateResolver cloneIfNecessary() {
-            AutowireCandidateResolver clonedDelegate = delegate.cloneIfNecessary();
-            return clonedDelegate == delegate ? this : new ObfuscatedAutowireCandidateResolver(clonedDelegate, beanFactory());
-        }
-
-        private DependencyDescriptor genericType(DependencyDescriptor descriptor) {
-            DependencyDescriptor genericDescriptor = new DependencyDescriptor(descriptor);
-            genericDescriptor.increaseNestingLevel();
-            return genericDescriptor;
-        }
+    /**
+     * Sets whether or not {@link Obfuscated} instances for immutable values should be shared.
+     * If {@code true}, injecting an equal {@link String}, boxed primitive or enum value with the same obfuscator and character representation
+     * results in the same {@link Obfuscated} instance, which also caches its string representation.
+     * This reduces the number of created objects if the same values are injected into many prototype or request scoped beans.
+     * The default is {@code false}.
+     *
+     * @param internValues {@code true} to share {@link Obfuscated} instances for immutable values, or {@code false} otherwise.
+     * @since 3.1
+     */
+    public void setInternValues(boolean internValues) {
+        this.internValues = internValues;
     }
 
-    private static final class ObfuscatedTypeConverter extends ObfuscatorSupport implements TypeConverter {
-
-        private final TypeConverter delegate;
-
-        private ObfuscatedTypeConverter(DefaultListableBeanFactory beanFactory) {
-            super(beanFactory);
-            this.delegate = beanFactory.getTypeConverter();
-        }
-
-        @Override
-        public <T> T convertIfNecessary(Object value, Class<T> requiredType) {
-            return delegate.convertIfNecessary(value, requiredType);
-        }
-
-        @Override
-        public <T> T convertIfNecessary(Object value, Class<T> requiredType, Field field) {
-            if (needsConversion(value, requiredType)) {
-                Annotation[] annotations = field.getAnnotations();
-                Obfuscator obfuscator = obfuscator(annotations);
-
-                ResolvableType genericResolvableType = getGenericType(field);
-                Class<?> genericRequiredType = genericResolvableType.getRawClass();
-
-                // Delegate not to delegate but beanFactory's actual type converter.
-                // This allows this type converter to be nested in another delegating type converter implementation
-                // and use the delegating implementations.
-                // This will not trigger this block again due to the different required type
-                Object unobfuscatedValue = beanFactory().getTypeConverter().convertIfNecessary(value, genericRequiredType, field);
-                return obfuscateValue(unobfuscatedValue, obfuscator, annotations, genericRequiredType);
-            }
-            return delegate.convertIfNecessary(value, requiredType, field);
-        }
-
-        @Override
-        public <T> T convertIfNecessary(Object value, Class<T> requiredType, MethodParameter methodParam) {
-            if (needsConversion(value, requiredType)) {
-                Annotation[] annotations = methodParam.getParameterAnnotations();
-                Obfuscator obfuscator = obfuscator(annotations);
-
-                ResolvableType genericResolvableType = getGenericType(methodParam);
-                Class<?> genericRequiredType = genericResolvableType.getRawClass();
-
-                // Delegate not to delegate but beanFactory's actual type converter.
-                // This allows this type converter to be nested in another delegating type converter implementation
-                // and use the delegating implementations.
-                // This will not trigger this block again due to the different required type
-                Object unobfuscatedValue = beanFactory().getTypeConverter().convertIfNecessary(value, genericRequiredType, methodParam);
-                return obfuscateValue(unobfuscatedValue, obfuscator, annotations, genericRequiredType);
-            }
-            return delegate.convertIfNecessary(value, requiredType, methodParam);
-        }
-
-        @Override
-        public <T> T convertIfNecessary(Object value, Class<T> requiredType, TypeDescriptor typeDescriptor) {
-            if (needsConversion(value, requiredType)) {
-                // throwing UnsupportedOperationException from the default implementation will trigger one of the other methods
-                return TypeConverter.super.convertIfNecessary(value, requiredType, typeDescriptor);
-            }
-            return delegate.convertIfNecessary(value, requiredType, typeDescriptor);
-        }
-
-        private boolean needsConversion(Object value, Class<?> requiredType) {
-            return Obfuscated.class.isAssignableFrom(requiredType) && !(value instanceof Obfuscated<?>);
-        }
-
-        private ResolvableType getGenericType(Field field) {
-            TypeDescriptor typeDescriptor = new TypeDescriptor(field);
-            return typeDescriptor.getResolvableType().getGeneric(0);
-        }
-
-        private ResolvableType getGenericType(MethodParameter methodParameter) {
-            TypeDescriptor typeDescriptor = new TypeDescriptor(methodParameter);
-            return typeDescriptor.getResolvableType().getGeneric(0);
-        }
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        DefaultListableBeanFactory listableBeanFactory = (DefaultListableBeanFactory) beanFactory;
+        ObfuscationAutowireCandidateResolver.enableObfuscatedSupport(listableBeanFactory, lazy);
+        ObfuscatedTypeConverter.install(listableBeanFactory, internValues);
     }
 }
@@ -0,0 +1,163 @@
+/*
+ * ObfuscatedTypeConverter.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.Map;
+import org.springframework.beans.SimpleTypeConverter;
+import org.springframework.beans.TypeConverter;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import com.github.robtimus.obfuscation.Obfuscated;
+import com.github.robtimus.obfuscation.Obfuscator;
+
+/**
+ * A {@link TypeConverter} that wraps values in {@link Obfuscated} instances if needed.
+ * <p>
+ * Instances of this class are installed as custom type converter, and are therefore shared by all threads that create beans.
+ *
+ * @author Rob Spoor
+ */
+final class ObfuscatedTypeConverter extends ObfuscatorSupport implements TypeConverter {
+
+    // Only set if the bean factory had a custom type converter, which must be thread-safe
+    private final TypeConverter delegate;
+
+    // Entries are softly referenced, so caching fields and method parameters does not prevent their classes from being unloaded
+    private final Map<Object, Class<?>> genericTypes = new ConcurrentReferenceHashMap<>();
+
+    private ObfuscatedTypeConverter(DefaultListableBeanFactory beanFactory) {
+        super(beanFactory);
+        TypeConverter typeConverter = beanFactory.getTypeConverter();
+        // Without a custom type converter the bean factory returns a new SimpleTypeConverter for each call. These are not thread-safe, so they
+        // cannot be shared. A custom type converter is returned for each call.
+        this.delegate = typeConverter == beanFactory.getTypeConverter() ? typeConverter : null;
+    }
+
+    static void install(DefaultListableBeanFactory beanFactory, boolean internValues) {
+        ObfuscatedTypeConverter typeConverter;
+        if (beanFactory.getTypeConverter() instanceof ObfuscatedTypeConverter existing) {
+            typeConverter = existing;
+        } else {
+            typeConverter = new ObfuscatedTypeConverter(beanFactory);
+            beanFactory.setTypeConverter(typeConverter);
+        }
+        if (internValues) {
+            typeConverter.enableValueInterning();
+        }
+    }
+
+    private TypeConverter delegate() {
+        if (delegate != null) {
+            return delegate;
+        }
+        // Mimic the bean factory's default type converter
+        SimpleTypeConverter typeConverter = new SimpleTypeConverter();
+        typeConverter.setConversionService(beanFactory().getConversionService());
+        beanFactory().copyRegisteredEditorsTo(typeConverter);
+        return typeConverter;
+    }
+
+    @Override
+    public <T> T convertIfNecessary(Object value, Class<T> requiredType) {
+        return delegate().convertIfNecessary(value, requiredType);
+    }
+
+    @Override
+    public <T> T convertIfNecessary(Object value, Class<T> requiredType, Field field) {
+        if (needsConversion(value, requiredType)) {
+            Annotation[] annotations = field.getAnnotations();
+            Obfuscator obfuscator = obfuscator(field);
+
+            Class<?> genericRequiredType = getGenericType(field);
+
+            // Delegate not to delegate but beanFactory's actual type converter.
+            // This allows this type converter to be nested in another delegating type converter implementation
+            // and use the delegating implementations.
+            // This will not trigger this block again due to the different required type
+            Object unobfuscatedValue = beanFactory().getTypeConverter().convertIfNecessary(value, genericRequiredType, field);
+            return obfuscateValue(unobfuscatedValue, obfuscator, annotations, genericRequiredType);
+        }
+        return delegate().convertIfNecessary(value, requiredType, field);
+    }
+
+    @Override
+    public <T> T convertIfNecessary(Object value, Class<T> requiredType, MethodParameter methodParam) {
+        if (needsConversion(value, requiredType)) {
+            Annotation[] annotations = methodParam.getParameterAnnotations();
+            Obfuscator obfuscator = obfuscator(methodParam);
+
+            Class<?> genericRequiredType = getGenericType(methodParam);
+
+            // Delegate not to delegate but beanFactory's actual type converter.
+            // This allows this type converter to be nested in another delegating type converter implementation
+            // and use the delegating implementations.
+            // This will not trigger this block again due to the different required type
+            Object unobfuscatedValue = beanFactory().getTypeConverter().convertIfNecessary(value, genericRequiredType, methodParam);
+            return obfuscateValue(unobfuscatedValue, obfuscator, annotations, genericRequiredType);
+        }
+        return delegate().convertIfNecessary(value, requiredType, methodParam);
+    }
+
+    @Override
+    public <T> T convertIfNecessary(Object value, Class<T> requiredType, TypeDescriptor typeDescriptor) {
+        if (needsConversion(value, requiredType)) {
+            // throwing UnsupportedOperationException from the default implementation will trigger one of the other methods
+            return TypeConverter.super.convertIfNecessary(value, requiredType, typeDescriptor);
+        }
+        return delegate().convertIfNecessary(value, requiredType, typeDescriptor);
+    }
+
+    @Override
+    boolean resolvesObfuscators(Class<?> type) {
+        return Obfuscated.class.isAssignableFrom(type);
+    }
+
+    private boolean needsConversion(Object value, Class<?> requiredType) {
+        // Every conversion in the bean factory passes through this method; Obfuscated is a class and not an interface, so checking assignability is
+        // only a walk up the class hierarchy of requiredType
+        return requiredType != null && Obfuscated.class.isAssignableFrom(requiredType) && !(value instanceof Obfuscated<?>);
+    }
+
+    private Class<?> getGenericType(Field field) {
+        Class<?> genericType = genericTypes.get(field);
+        if (genericType == null) {
+            genericType = ResolvableType.forField(field).getGeneric(0).getRawClass();
+            if (genericType != null) {
+                genericTypes.put(field, genericType);
+            }
+        }
+        return genericType;
+    }
+
+    private Class<?> getGenericType(MethodParameter methodParameter) {
+        Class<?> genericType = genericTypes.get(methodParameter);
+        if (genericType == null) {
+            genericType = ResolvableType.forMethodParameter(methodParameter).getGeneric(0).getRawClass();
+            if (genericType != null) {
+                // Method parameters are mutable; store a copy so the key cannot change
+                genericTypes.put(methodParameter.clone(), genericType);
+            }
+        }
+        return genericType;
+    }
+}
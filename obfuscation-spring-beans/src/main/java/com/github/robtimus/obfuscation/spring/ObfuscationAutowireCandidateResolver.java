@@ -0,0 +1,204 @@
+/*
+ * ObfuscationAutowireCandidateResolver.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.beans.factory.support.AutowireCandidateResolver;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.util.ClassUtils;
+import com.github.robtimus.obfuscation.Obfuscated;
+import com.github.robtimus.obfuscation.Obfuscator;
+
+/**
+ * An {@link AutowireCandidateResolver} that adds support for autowiring {@link Obfuscator} and/or {@link Obfuscated} instances.
+ * <p>
+ * Both kinds of support are provided by a single instance, so enabling both does not add two delegation layers to every dependency resolution.
+ *
+ * @author Rob Spoor
+ */
+final class ObfuscationAutowireCandidateResolver extends ObfuscatorSupport implements AutowireCandidateResolver {
+
+    // Lazy resolution is provided by spring-context, which this module does not depend on; its Lazy annotation is therefore loaded by name
+    private static final String LAZY_ANNOTATION_CLASS_NAME = "org.springframework.context.annotation.Lazy"; //$NON-NLS-1$
+
+    private final AutowireCandidateResolver delegate;
+
+    // These are set by bean factory post processors, but can be read by threads that initialize beans in the background
+    private volatile boolean obfuscatorSupport;
+    private volatile boolean obfuscatedSupport;
+    // null if beans wrapped in Obfuscated instances should not be resolved lazily
+    private volatile Annotation lazyAnnotation;
+
+    private ObfuscationAutowireCandidateResolver(AutowireCandidateResolver delegate, DefaultListableBeanFactory beanFactory) {
+        super(beanFactory);
+        this.delegate = delegate;
+    }
+
+    static void enableObfuscatorSupport(DefaultListableBeanFactory beanFactory, boolean qualifiedObfuscators) {
+        ObfuscationAutowireCandidateResolver resolver = getOrInstall(beanFactory);
+        resolver.obfuscatorSupport = true;
+        if (qualifiedObfuscators) {
+            resolver.enableQualifiedObfuscators();
+        }
+    }
+
+    static void enableObfuscatedSupport(DefaultListableBeanFactory beanFactory, boolean lazy) {
+        ObfuscationAutowireCandidateResolver resolver = getOrInstall(beanFactory);
+        resolver.obfuscatedSupport = true;
+        resolver.lazyAnnotation = lazy ? lazyAnnotation(beanFactory.getBeanClassLoader()) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Annotation lazyAnnotation(ClassLoader classLoader) {
+        if (!ClassUtils.isPresent(LAZY_ANNOTATION_CLASS_NAME, classLoader)) {
+            // Without spring-context lazy resolution is not supported
+            return null;
+        }
+        Class<?> annotationType = ClassUtils.resolveClassName(LAZY_ANNOTATION_CLASS_NAME, classLoader);
+        return MergedAnnotation.of((Class<? extends Annotation>) annotationType).synthesize();
+    }
+
+    private static ObfuscationAutowireCandidateResolver getOrInstall(DefaultListableBeanFactory beanFactory) {
+        AutowireCandidateResolver currentResolver = beanFactory.getAutowireCandidateResolver();
+        if (currentResolver instanceof ObfuscationAutowireCandidateResolver resolver) {
+            return resolver;
+        }
+        ObfuscationAutowireCandidateResolver resolver = new ObfuscationAutowireCandidateResolver(currentResolver, beanFactory);
+        beanFactory.setAutowireCandidateResolver(resolver);
+        return resolver;
+    }
+
+    @Override
+    public boolean isAutowireCandidate(BeanDefinitionHolder bdHolder, DependencyDescriptor descriptor) {
+        return delegate.isAutowireCandidate(bdHolder, descriptor);
+    }
+
+    @Override
+    public boolean isRequired(DependencyDescriptor descriptor) {
+        return delegate.isRequired(descriptor);
+    }
+
+    @Override
+    public boolean hasQualifier(DependencyDescriptor descriptor) {
+        return delegate.hasQualifier(descriptor);
+    }
+
+    @Override
+    public Object getSuggestedValue(DependencyDescriptor descriptor) {
+        if (obfuscatorSupport && Obfuscator.class.isAssignableFrom(descriptor.getDeclaredType())) {
+            return obfuscator(descriptor);
+        }
+        if (obfuscatedSupport && Obfuscated.class.isAssignableFrom(descriptor.getDependencyType())) {
+            DependencyDescriptor genericDescriptor = genericType(descriptor);
+
+            // Delegate not to delegate but beanFactory's actual autowire candidate resolver.
+            // This allows this autowire candidate resolver to be nested in another delegating autowire candidate resolver implementation
+            // and use the delegating implementations.
+            // This will not trigger this block again due to the different dependency descriptor
+            Object result = beanFactory().getAutowireCandidateResolver().getSuggestedValue(genericDescriptor);
+            if (result == null) {
+                result = beanFactory().getBeanProvider(genericDescriptor.getDependencyType()).getIfAvailable();
+            }
+            // Do not wrap in Obfuscated just yet, as that will prevent any possible @Value resolving
+            // Instead, let the TypeConverter convert the value instead.
+            return result;
+        }
+        return delegate.getSuggestedValue(descriptor);
+    }
+
+    @Override
+    public Object getLazyResolutionProxyIfNecessary(DependencyDescriptor descriptor, String beanName) {
+        if (obfuscatedSupport && Obfuscated.class.isAssignableFrom(descriptor.getDependencyType())) {
+            DependencyDescriptor genericDescriptor = genericType(descriptor);
+            Annotation lazy = lazyAnnotation;
+            if (lazy != null && canBeLazy(genericDescriptor)) {
+                genericDescriptor = new LazyDependencyDescriptor(genericDescriptor, lazy);
+            }
+
+            Object result = beanFactory().getAutowireCandidateResolver().getLazyResolutionProxyIfNecessary(genericDescriptor, beanName);
+            if (result != null) {
+                Obfuscator obfuscator = obfuscator(descriptor);
+
+                result = obfuscateValue(result, obfuscator, descriptor.getAnnotations(), genericDescriptor.getResolvableType().getRawClass());
+            }
+            return result;
+        }
+        return delegate.getLazyResolutionProxyIfNecessary(descriptor, beanName);
+    }
+
+    @Override
+    public AutowireCandidateResolver cloneIfNecessary() {
+        AutowireCandidateResolver clonedDelegate = delegate.cloneIfNecessary();
+        if (clonedDelegate == delegate) {
+            return this;
+        }
+        ObfuscationAutowireCandidateResolver clone = new ObfuscationAutowireCandidateResolver(clonedDelegate, beanFactory());
+        clone.obfuscatorSupport = obfuscatorSupport;
+        clone.obfuscatedSupport = obfuscatedSupport;
+        clone.lazyAnnotation = lazyAnnotation;
+        return clone;
+    }
+
+    @Override
+    boolean resolvesObfuscators(Class<?> type) {
+        // Obfuscated values are created by ObfuscatedTypeConverter, unless they are lazy
+        return obfuscatorSupport && Obfuscator.class.isAssignableFrom(type)
+                || obfuscatedSupport && lazyAnnotation != null && Obfuscated.class.isAssignableFrom(type);
+    }
+
+    private DependencyDescriptor genericType(DependencyDescriptor descriptor) {
+        DependencyDescriptor genericDescriptor = new DependencyDescriptor(descriptor);
+        genericDescriptor.increaseNestingLevel();
+        return genericDescriptor;
+    }
+
+    private boolean canBeLazy(DependencyDescriptor genericDescriptor) {
+        // Values like @Value expressions are resolved directly; only beans are resolved lazily
+        if (beanFactory().getAutowireCandidateResolver().getSuggestedValue(genericDescriptor) != null) {
+            return false;
+        }
+        Class<?> type = genericDescriptor.getDependencyType();
+        // Lazy resolution proxies can only be created for interfaces and non-final classes
+        return type.isInterface() || !(type.isPrimitive() || type.isArray() || Modifier.isFinal(type.getModifiers()));
+    }
+
+    private static final class LazyDependencyDescriptor extends DependencyDescriptor {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Annotation lazy;
+
+        private LazyDependencyDescriptor(DependencyDescriptor original, Annotation lazy) {
+            super(original);
+            this.lazy = lazy;
+        }
+
+        @Override
+        public Annotation[] getAnnotations() {
+            Annotation[] annotations = super.getAnnotations();
+            Annotation[] result = Arrays.copyOf(annotations, annotations.length + 1);
+            result[annotations.length] = lazy;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * ObfuscationBeanFactoryInitializationAotProcessor.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.lang.model.element.Modifier;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GeneratedMethods;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import com.github.robtimus.obfuscation.Obfuscated;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.annotation.ObfuscateAll;
+import com.github.robtimus.obfuscation.annotation.ObfuscateFixedLength;
+import com.github.robtimus.obfuscation.annotation.ObfuscateFixedValue;
+import com.github.robtimus.obfuscation.annotation.ObfuscateNone;
+import com.github.robtimus.obfuscation.annotation.ObfuscatePortion;
+import com.github.robtimus.obfuscation.annotation.ObfuscateUsing;
+
+/**
+ * A {@link BeanFactoryInitializationAotProcessor} that computes obfuscators for {@link Obfuscator} and {@link Obfuscated} injection points
+ * ahead of time.
+ * <p>
+ * Obfuscators created from {@link ObfuscateAll}, {@link ObfuscateNone}, {@link ObfuscateFixedLength}, {@link ObfuscateFixedValue} and
+ * {@link ObfuscatePortion} annotations depend only on the annotations' values. This processor generates code that creates these obfuscators
+ * and registers them with {@link PrecomputedObfuscators}, so they do not need to be created from annotations at runtime.
+ * Obfuscators created from {@link ObfuscateUsing} annotations can depend on beans, and are still created at runtime.
+ *
+ * @author Rob Spoor
+ */
+final class ObfuscationBeanFactoryInitializationAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        // Injection points are grouped by annotation, so injection points with equal annotations share the same obfuscator
+        Map<Annotation, List<String>> injectionPoints = new LinkedHashMap<>();
+
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            RegisteredBean registeredBean = RegisteredBean.of(beanFactory, beanName);
+            RootBeanDefinition beanDefinition = registeredBean.getMergedBeanDefinition();
+            if (beanDefinition.isAbstract()) {
+                continue;
+            }
+            Class<?> beanClass = ClassUtils.getUserClass(registeredBean.getBeanClass());
+
+            // Only injection points that are autowired are collected, like ObfuscationWarmup does
+            ReflectionUtils.doWithFields(beanClass,
+                    field -> collectInjectionPoint(field.getAnnotations(), PrecomputedObfuscators.injectionPoint(field), injectionPoints),
+                    field -> ObfuscatorSupport.isObfuscationType(field.getType()) && ObfuscatorSupport.isInjected(field));
+            for (Method method : ReflectionUtils.getUniqueDeclaredMethods(beanClass, ReflectionUtils.USER_DECLARED_METHODS)) {
+                if (ObfuscatorSupport.isInjected(method)) {
+                    collectInjectionPoints(method, injectionPoints);
+                }
+            }
+            if (beanDefinition.getFactoryMethodName() != null) {
+                Method factoryMethod = beanDefinition.getResolvedFactoryMethod();
+                if (factoryMethod != null) {
+                    collectInjectionPoints(factoryMethod, injectionPoints);
+                }
+            } else {
+                for (Executable constructor : beanClass.getDeclaredConstructors()) {
+                    collectInjectionPoints(constructor, injectionPoints);
+                }
+            }
+        }
+
+        return injectionPoints.isEmpty() ? null : new PrecomputedObfuscatorsContribution(injectionPoints);
+    }
+
+    private void collectInjectionPoints(Executable executable, Map<Annotation, List<String>> injectionPoints) {
+        Parameter[] parameters = executable.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            if (ObfuscatorSupport.isObfuscationType(parameters[i].getType())) {
+                collectInjectionPoint(parameters[i].getAnnotations(), PrecomputedObfuscators.injectionPoint(executable, i), injectionPoints);
+            }
+        }
+    }
+
+    private void collectInjectionPoint(Annotation[] annotations, String injectionPoint, Map<Annotation, List<String>> injectionPoints) {
+        List<Annotation> obfuscatorAnnotations = ObfuscatorSupport.obfuscatorAnnotations(annotations);
+        // Multiple obfuscator annotations are an error that should be reported at runtime.
+        // Named obfuscators and qualifiers refer to obfuscators that are only known at runtime.
+        if (obfuscatorAnnotations.size() == 1 && !(obfuscatorAnnotations.get(0) instanceof ObfuscateUsing) && !isNamed(annotations)) {
+            injectionPoints.computeIfAbsent(obfuscatorAnnotations.get(0), k -> new ArrayList<>()).add(injectionPoint);
+        }
+    }
+
+    private boolean isNamed(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof NamedObfuscator || annotation instanceof Qualifier) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static CodeBlock obfuscatorCode(Annotation annotation) {
+        if (annotation instanceof ObfuscateAll obfuscateAll) {
+            return CodeBlock.of("$T.all((char) $L)", Obfuscator.class, (int) obfuscateAll.maskChar()); //$NON-NLS-1$
+        }
+        if (annotation instanceof ObfuscateNone) {
+            return CodeBlock.of("$T.none()", Obfuscator.class); //$NON-NLS-1$
+        }
+        if (annotation instanceof ObfuscateFixedLength obfuscateFixedLength) {
+            return CodeBlock.of("$T.fixedLength($L, (char) $L)", Obfuscator.class, //$NON-NLS-1$
+                    obfuscateFixedLength.value(), (int) obfuscateFixedLength.maskChar());
+        }
+        if (annotation instanceof ObfuscateFixedValue obfuscateFixedValue) {
+            return CodeBlock.of("$T.fixedValue($S)", Obfuscator.class, obfuscateFixedValue.value()); //$NON-NLS-1$
+        }
+        ObfuscatePortion obfuscatePortion = (ObfuscatePortion) annotation;
+        return CodeBlock.builder()
+                .add("$T.portion()", Obfuscator.class) //$NON-NLS-1$
+                .add(".keepAtStart($L)", obfuscatePortion.keepAtStart()) //$NON-NLS-1$
+                .add(".keepAtEnd($L)", obfuscatePortion.keepAtEnd()) //$NON-NLS-1$
+                .add(".atLeastFromStart($L)", obfuscatePortion.atLeastFromStart()) //$NON-NLS-1$
+                .add(".atLeastFromEnd($L)", obfuscatePortion.atLeastFromEnd()) //$NON-NLS-1$
+                .add(".withFixedTotalLength($L)", obfuscatePortion.fixedTotalLength()) //$NON-NLS-1$
+                .add(".withMaskChar((char) $L)", (int) obfuscatePortion.maskChar()) //$NON-NLS-1$
+                .add(".build()") //$NON-NLS-1$
+                .build();
+    }
+
+    private static final class PrecomputedObfuscatorsContribution implements BeanFactoryInitializationAotContribution {
+
+        private final Map<Annotation, List<String>> injectionPoints;
+
+        private PrecomputedObfuscatorsContribution(Map<Annotation, List<String>> injectionPoints) {
+            this.injectionPoints = injectionPoints;
+        }
+
+        @Override
+        public void applyTo(GenerationContext generationContext, BeanFactoryInitializationCode beanFactoryInitializationCode) {
+            GeneratedMethods methods = beanFactoryInitializationCode.getMethods();
+            GeneratedMethod generatedMethod = methods.add("registerPrecomputedObfuscators", method -> { //$NON-NLS-1$
+                method.addJavadoc("Register the obfuscators that were computed ahead of time."); //$NON-NLS-1$
+                method.addModifiers(Modifier.PUBLIC, Modifier.STATIC);
+                method.addParameter(DefaultListableBeanFactory.class, "beanFactory"); //$NON-NLS-1$
+                method.addCode(registerCode());
+            });
+            beanFactoryInitializationCode.addInitializer(generatedMethod.toMethodReference());
+        }
+
+        private CodeBlock registerCode() {
+            CodeBlock.Builder code = CodeBlock.builder();
+            code.add("$T.register(beanFactory)", PrecomputedObfuscators.class); //$NON-NLS-1$
+            code.indent();
+            for (Map.Entry<Annotation, List<String>> entry : injectionPoints.entrySet()) {
+                Annotation annotation = entry.getKey();
+                code.add("\n.add($T.class, $L", annotation.annotationType(), obfuscatorCode(annotation)); //$NON-NLS-1$
+                for (String injectionPoint : entry.getValue()) {
+                    code.add(",\n$S", injectionPoint); //$NON-NLS-1$
+                }
+                code.add(")"); //$NON-NLS-1$
+            }
+            code.unindent();
+            code.add(";\n"); //$NON-NLS-1$
+            return code.build();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * ObfuscationBeanRegistrationAotProcessor.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
+import org.springframework.beans.factory.aot.BeanRegistrationCode;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import com.github.robtimus.obfuscation.Obfuscated;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.annotation.CharacterRepresentationProvider;
+import com.github.robtimus.obfuscation.annotation.ObfuscateUsing;
+import com.github.robtimus.obfuscation.annotation.ObfuscatorProvider;
+import com.github.robtimus.obfuscation.annotation.RepresentedBy;
+
+/**
+ * A {@link BeanRegistrationAotProcessor} for beans with {@link Obfuscator} or {@link Obfuscated} injection points.
+ * <p>
+ * {@link ObfuscatorProvider} and {@link CharacterRepresentationProvider} classes are instantiated reflectively if no bean of their type exists.
+ * This processor registers the necessary runtime hints for the classes referenced from {@link ObfuscateUsing} and {@link RepresentedBy}
+ * annotations, so these can be instantiated in native images as well. Because these classes are created as beans, their fields and methods
+ * are registered as well, so they can be autowired using field and method injection.
+ *
+ * @author Rob Spoor
+ */
+final class ObfuscationBeanRegistrationAotProcessor implements BeanRegistrationAotProcessor {
+
+    @Override
+    public BeanRegistrationAotContribution processAheadOfTime(RegisteredBean registeredBean) {
+        RootBeanDefinition beanDefinition = registeredBean.getMergedBeanDefinition();
+        Class<?> beanClass = ClassUtils.getUserClass(registeredBean.getBeanClass());
+        Set<Class<?>> instantiatedTypes = new LinkedHashSet<>();
+
+        // Only injection points that are autowired are collected, like ObfuscationWarmup does
+        ReflectionUtils.doWithFields(beanClass,
+                field -> collectInstantiatedTypes(field.getAnnotations(), instantiatedTypes),
+                field -> ObfuscatorSupport.isObfuscationType(field.getType()) && ObfuscatorSupport.isInjected(field));
+        for (Method method : ReflectionUtils.getUniqueDeclaredMethods(beanClass, ReflectionUtils.USER_DECLARED_METHODS)) {
+            if (ObfuscatorSupport.isInjected(method)) {
+                collectInstantiatedTypes(method, instantiatedTypes);
+            }
+        }
+        if (beanDefinition.getFactoryMethodName() != null) {
+            Method factoryMethod = beanDefinition.getResolvedFactoryMethod();
+            if (factoryMethod != null) {
+                collectInstantiatedTypes(factoryMethod, instantiatedTypes);
+            }
+        } else {
+            for (Executable constructor : beanClass.getDeclaredConstructors()) {
+                collectInstantiatedTypes(constructor, instantiatedTypes);
+            }
+        }
+
+        return instantiatedTypes.isEmpty() ? null : new InstantiatedTypesContribution(instantiatedTypes);
+    }
+
+    private void collectInstantiatedTypes(Executable executable, Set<Class<?>> instantiatedTypes) {
+        for (Parameter parameter : executable.getParameters()) {
+            if (ObfuscatorSupport.isObfuscationType(parameter.getType())) {
+                collectInstantiatedTypes(parameter.getAnnotations(), instantiatedTypes);
+            }
+        }
+    }
+
+    private void collectInstantiatedTypes(Annotation[] annotations, Set<Class<?>> instantiatedTypes) {
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof ObfuscateUsing obfuscateUsing) {
+                instantiatedTypes.add(obfuscateUsing.value());
+            } else if (annotation instanceof RepresentedBy representedBy) {
+                instantiatedTypes.add(representedBy.value());
+            }
+        }
+    }
+
+    private static final class InstantiatedTypesContribution implements BeanRegistrationAotContribution {
+
+        private final Set<Class<?>> instantiatedTypes;
+
+        private InstantiatedTypesContribution(Set<Class<?>> instantiatedTypes) {
+            this.instantiatedTypes = instantiatedTypes;
+        }
+
+        @Override
+        @SuppressWarnings("removal")
+        public void applyTo(GenerationContext generationContext, BeanRegistrationCode beanRegistrationCode) {
+            ReflectionHints reflectionHints = generationContext.getRuntimeHints().reflection();
+            for (Class<?> instantiatedType : instantiatedTypes) {
+                reflectionHints.registerType(instantiatedType, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+                // Fields and methods can be autowired, including those of super classes.
+                // DECLARED_FIELDS is deprecated in newer Spring versions, but its replacement is not available in all supported versions.
+                for (Class<?> type = instantiatedType; type != null && type != Object.class; type = type.getSuperclass()) {
+                    reflectionHints.registerType(type, MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_METHODS);
+                }
+            }
+        }
+    }
+}
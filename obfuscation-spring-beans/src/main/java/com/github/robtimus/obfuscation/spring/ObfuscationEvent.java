@@ -0,0 +1,49 @@
+/*
+ * ObfuscationEvent.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JDK Flight Recorder event for obfuscating text using an obfuscator that is decorated by {@link FlightRecorderObfuscatorDecorator}.
+ * This event is disabled by default.
+ *
+ * @author Rob Spoor
+ */
+@Name("com.github.robtimus.obfuscation.spring.Obfuscation")
+@Label("Obfuscation")
+@Description("Obfuscation of text")
+@Category({ "Obfuscation", "Spring" })
+@Enabled(false)
+@StackTrace(false)
+final class ObfuscationEvent extends Event {
+
+    @Label("Obfuscation Mode")
+    @Description("The obfuscation mode, or the name of a named obfuscator")
+    String mode;
+
+    @Label("Input Length")
+    @Description("The length of the obfuscated text, or -1 if the text is read from a Reader")
+    int inputLength;
+}
@@ -0,0 +1,167 @@
+/*
+ * ObfuscationWarmup.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.MethodParameter;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import com.github.robtimus.obfuscation.Obfuscated;
+import com.github.robtimus.obfuscation.Obfuscator;
+
+/**
+ * A bean that prepares obfuscation before the first non-singleton bean is created.
+ * <p>
+ * Singleton beans resolve the obfuscators for their {@link Obfuscator} and {@link Obfuscated} injection points while the bean factory is being
+ * initialized. Lazy, prototype and otherwise scoped beans do so only when they are first created, for instance while handling a request.
+ * Once all non-lazy singletons have been instantiated, this bean resolves and caches the obfuscators for the injection points of these beans:
+ * the parameters of their factory methods or constructors, and fields and methods that are annotated with {@code @Autowired},
+ * {@code @Value} or {@code @Inject}. These are resolved using {@link ObfuscatorSupportBeanFactoryPostProcessor} and
+ * {@link ObfuscatedSupportBeanFactoryPostProcessor}; if neither is activated, no obfuscators are resolved.
+ * <p>
+ * Afterwards, each resolved obfuscator, each {@link Obfuscator} singleton bean and each obfuscator of an {@link ObfuscatorRegistry} singleton bean
+ * obfuscates a short text once, to load the classes that are needed for obfuscating. Any decoration applied by {@link ObfuscatorDecorator} beans,
+ * like metrics, will include these calls.
+ * <p>
+ * Beans of this type must be registered in a {@link DefaultListableBeanFactory}.
+ *
+ * @author Rob Spoor
+ * @since 3.1
+ */
+public class ObfuscationWarmup implements BeanFactoryAware, SmartInitializingSingleton {
+
+    private static final String WARMUP_TEXT = "warmup"; //$NON-NLS-1$
+
+    private DefaultListableBeanFactory beanFactory;
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        this.beanFactory = (DefaultListableBeanFactory) beanFactory;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Set<Obfuscator> obfuscators = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        List<ObfuscatorSupport> supports = ObfuscatorSupport.installed(beanFactory);
+        if (!supports.isEmpty()) {
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                RootBeanDefinition beanDefinition = RegisteredBean.of(beanFactory, beanName).getMergedBeanDefinition();
+                if (!beanDefinition.isAbstract() && (!beanDefinition.isSingleton() || beanDefinition.isLazyInit())) {
+                    warmUp(beanName, beanDefinition, supports, obfuscators);
+                }
+            }
+        }
+
+        obfuscators.addAll(beanFactory.getBeansOfType(Obfuscator.class, false, false).values());
+        for (ObfuscatorRegistry registry : beanFactory.getBeansOfType(ObfuscatorRegistry.class, false, false).values()) {
+            for (String name : registry.names()) {
+                registry.obfuscator(name).ifPresent(obfuscators::add);
+            }
+        }
+        for (Obfuscator obfuscator : obfuscators) {
+            obfuscator.obfuscateText(WARMUP_TEXT);
+        }
+    }
+
+    private void warmUp(String beanName, RootBeanDefinition beanDefinition, List<ObfuscatorSupport> supports, Set<Obfuscator> obfuscators) {
+        // Don't initialize factory beans just to determine their types. This also resolves the factory method of the bean definition, if any.
+        Class<?> beanType = beanFactory.getType(beanName, false);
+        if (beanType == null) {
+            return;
+        }
+        Class<?> beanClass = ClassUtils.getUserClass(beanType);
+        // The class of the bean instances, which can be a generated sub class, for instance for configuration classes
+        Class<?> instanceClass = beanDefinition.getFactoryMethodName() == null && beanDefinition.hasBeanClass()
+                ? beanDefinition.getBeanClass()
+                : beanType;
+
+        if (beanDefinition.getFactoryMethodName() != null) {
+            // The factory method's parameters are injected instead of the bean class's constructor parameters.
+            // Determining the bean type resolves unique factory methods only; overloaded factory methods are resolved when the bean is created.
+            Method factoryMethod = beanDefinition.getResolvedFactoryMethod();
+            if (factoryMethod != null) {
+                warmUp(factoryMethod, null, supports, obfuscators);
+            }
+        } else {
+            for (Constructor<?> constructor : beanClass.getDeclaredConstructors()) {
+                warmUp(constructor, null, supports, obfuscators);
+            }
+        }
+
+        ReflectionUtils.doWithFields(beanClass, field -> {
+            for (ObfuscatorSupport support : supports) {
+                addIfNotNull(support.warmUp(field), obfuscators);
+            }
+        }, field -> !Modifier.isStatic(field.getModifiers())
+                && ObfuscatorSupport.isObfuscationType(field.getType())
+                && ObfuscatorSupport.isInjected(field));
+
+        for (Method method : ReflectionUtils.getUniqueDeclaredMethods(beanClass, ReflectionUtils.USER_DECLARED_METHODS)) {
+            if (!Modifier.isStatic(method.getModifiers()) && ObfuscatorSupport.isInjected(method)) {
+                warmUp(method, instanceClass, supports, obfuscators);
+            }
+        }
+    }
+
+    private void warmUp(Executable executable, Class<?> containingClass, List<ObfuscatorSupport> supports, Set<Obfuscator> obfuscators) {
+        Class<?>[] parameterTypes = executable.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (ObfuscatorSupport.isObfuscationType(parameterTypes[i])) {
+                MethodParameter methodParameter = methodParameter(executable, i, containingClass);
+                for (ObfuscatorSupport support : supports) {
+                    addIfNotNull(support.warmUp(methodParameter), obfuscators);
+                }
+            }
+        }
+    }
+
+    private static MethodParameter methodParameter(Executable executable, int parameterIndex, Class<?> containingClass) {
+        MethodParameter methodParameter = MethodParameter.forExecutable(executable, parameterIndex);
+        if (containingClass == null) {
+            // Constructors and factory methods are autowired with the declaring class as containing class
+            return methodParameter;
+        }
+        // Injected methods are autowired with the class of the bean instance as containing class, also if they are inherited.
+        // The containing class is part of the method parameter's equality, so the cache key is created the same way.
+        DependencyDescriptor descriptor = new DependencyDescriptor(methodParameter, true);
+        descriptor.setContainingClass(containingClass);
+        return descriptor.getMethodParameter();
+    }
+
+    private static void addIfNotNull(Obfuscator obfuscator, Set<Obfuscator> obfuscators) {
+        if (obfuscator != null) {
+            obfuscators.add(obfuscator);
+        }
+    }
+}
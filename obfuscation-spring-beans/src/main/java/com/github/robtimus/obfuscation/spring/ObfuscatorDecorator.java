@@ -0,0 +1,93 @@
+/*
+ * ObfuscatorDecorator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import java.util.List;
+import java.util.Objects;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.core.Ordered;
+import com.github.robtimus.obfuscation.Obfuscated;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.annotation.ObfuscateUsing;
+
+/**
+ * A strategy for decorating obfuscators, for instance to add metrics or tracing.
+ * <p>
+ * Beans of this type are applied to the obfuscators that are created for annotated {@link Obfuscator} and {@link Obfuscated} injection points.
+ * The obfuscators are decorated only once; the decorated obfuscators are cached like the obfuscators they decorate.
+ * If multiple beans of this type are available, they are applied in the order defined by {@link Ordered} and
+ * {@link org.springframework.core.annotation.Order @Order}.
+ *
+ * @author Rob Spoor
+ * @since 3.1
+ */
+@FunctionalInterface
+public interface ObfuscatorDecorator {
+
+    /**
+     * Decorates an obfuscator.
+     *
+     * @param obfuscator The obfuscator to decorate.
+     * @param name A name that describes the obfuscator. For annotated injection points this is the obfuscation mode, e.g. {@code FIXED_LENGTH}
+     *                 or {@code PROVIDER} for {@link ObfuscateUsing}.
+     * @return The decorated obfuscator, or the given obfuscator if it should not be decorated.
+     */
+    Obfuscator decorate(Obfuscator obfuscator, String name);
+
+    /**
+     * Decorates an obfuscator using all {@code ObfuscatorDecorator} beans of a bean factory.
+     * <p>
+     * This method looks up the {@code ObfuscatorDecorator} beans for each call. Use {@link #fromBeans(ListableBeanFactory)} to decorate multiple
+     * obfuscators.
+     *
+     * @param obfuscator The obfuscator to decorate.
+     * @param name A name that describes the obfuscator.
+     * @param beanFactory The bean factory to retrieve the {@code ObfuscatorDecorator} beans from.
+     * @return The decorated obfuscator, or the given obfuscator if the bean factory does not contain any {@code ObfuscatorDecorator} beans.
+     * @throws NullPointerException If the given obfuscator, name or bean factory is {@code null}.
+     */
+    static Obfuscator decorate(Obfuscator obfuscator, String name, ListableBeanFactory beanFactory) {
+        Objects.requireNonNull(obfuscator);
+        Objects.requireNonNull(name);
+
+        return fromBeans(beanFactory).decorate(obfuscator, name);
+    }
+
+    /**
+     * Returns an {@code ObfuscatorDecorator} that applies all {@code ObfuscatorDecorator} beans of a bean factory.
+     * The beans are looked up only once, so the returned decorator does not reflect beans that are added to the bean factory later.
+     *
+     * @param beanFactory The bean factory to retrieve the {@code ObfuscatorDecorator} beans from.
+     * @return An {@code ObfuscatorDecorator} that applies all {@code ObfuscatorDecorator} beans of the given bean factory in order.
+     *         If the bean factory does not contain any {@code ObfuscatorDecorator} beans, the returned decorator returns obfuscators as-is.
+     * @throws NullPointerException If the given bean factory is {@code null}.
+     */
+    static ObfuscatorDecorator fromBeans(ListableBeanFactory beanFactory) {
+        List<ObfuscatorDecorator> decorators = beanFactory.getBeanProvider(ObfuscatorDecorator.class).orderedStream().toList();
+        if (decorators.size() == 1) {
+            return decorators.get(0);
+        }
+        return (obfuscator, name) -> {
+            Obfuscator result = obfuscator;
+            for (ObfuscatorDecorator decorator : decorators) {
+                result = decorator.decorate(result, name);
+            }
+            return result;
+        };
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * ObfuscatorRegistry.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Qualifier;
+import com.github.robtimus.obfuscation.Obfuscated;
+import com.github.robtimus.obfuscation.Obfuscator;
+
+/**
+ * An immutable registry of named obfuscators.
+ * <p>
+ * If a bean of this type is available, {@link Obfuscator} and {@link Obfuscated} injection points that are annotated with
+ * {@link NamedObfuscator} use the obfuscator with the annotation's name. If enabled using
+ * {@link ObfuscatorSupportBeanFactoryPostProcessor#setQualifiedObfuscators(boolean)}, {@link Obfuscator} injection points that are annotated
+ * with {@link Qualifier} use the obfuscator with the qualifier's value as well, if this registry contains it.
+ * <p>
+ * The obfuscators in a registry are injected as-is; they are not decorated again by any {@link ObfuscatorDecorator} beans. Code that creates a
+ * registry can decorate the obfuscators before registering them.
+ *
+ * @author Rob Spoor
+ * @since 3.1
+ */
+public final class ObfuscatorRegistry {
+
+    private final Map<String, Obfuscator> obfuscators;
+
+    private ObfuscatorRegistry(Map<String, Obfuscator> obfuscators) {
+        this.obfuscators = obfuscators;
+    }
+
+    /**
+     * Creates a new registry.
+     *
+     * @param obfuscators A map with the obfuscators to register, keyed by name. The map is copied, so later changes to it are not reflected
+     *                        in the registry.
+     * @return The created registry.
+     * @throws NullPointerException If the given map, or any of its keys or values, is {@code null}.
+     */
+    public static ObfuscatorRegistry of(Map<String, ? extends Obfuscator> obfuscators) {
+        return new ObfuscatorRegistry(Map.copyOf(obfuscators));
+    }
+
+    /**
+     * Returns the obfuscator with a specific name.
+     *
+     * @param name The name of the obfuscator to return.
+     * @return An {@link Optional} describing the obfuscator with the given name, or {@link Optional#empty()} if this registry does not contain
+     *         an obfuscator with the given name.
+     * @throws NullPointerException If the given name is {@code null}.
+     */
+    public Optional<Obfuscator> obfuscator(String name) {
+        return Optional.ofNullable(obfuscators.get(name));
+    }
+
+    /**
+     * Returns the names of all obfuscators in this registry.
+     *
+     * @return An immutable set with the names of all obfuscators in this registry.
+     */
+    public Set<String> names() {
+        return obfuscators.keySet();
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return getClass().getName() + obfuscators;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * ObfuscatorResolutionEvent.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JDK Flight Recorder event for resolving the obfuscator for an {@link com.github.robtimus.obfuscation.Obfuscator Obfuscator} or
+ * {@link com.github.robtimus.obfuscation.Obfuscated Obfuscated} injection point. This event is disabled by default.
+ *
+ * @author Rob Spoor
+ */
+@Name("com.github.robtimus.obfuscation.spring.ObfuscatorResolution")
+@Label("Obfuscator Resolution")
+@Description("Resolution of the obfuscator for an injection point")
+@Category({ "Obfuscation", "Spring" })
+@Enabled(false)
+@StackTrace(false)
+final class ObfuscatorResolutionEvent extends Event {
+
+    @Label("Injection Point")
+    String injectionPoint;
+
+    @Label("Obfuscation Mode")
+    @Description("The obfuscation mode from the injection point's annotations, or null if the default obfuscator is used")
+    String mode;
+
+    @Label("Provider Class")
+    @Description("The class from the injection point's ObfuscateUsing annotation, if any")
+    Class<?> providerClass;
+
+    @Label("Obfuscator Name")
+    @Description("The name of the obfuscator from the ObfuscatorRegistry, if any")
+    String name;
+}
@@ -19,23 +19,133 @@ package com.github.robtimus.obfuscation.spring;
 
 import static com.github.robtimus.obfuscation.Obfuscator.fixedLength;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import com.github.robtimus.obfuscation.Obfuscated;
 import com.github.robtimus.obfuscation.Obfuscator;
 import com.github.robtimus.obfuscation.annotation.CharacterRepresentationProvider;
+import com.github.robtimus.obfuscation.annotation.ObfuscateAll;
+import com.github.robtimus.obfuscation.annotation.ObfuscateFixedLength;
+import com.github.robtimus.obfuscation.annotation.ObfuscateFixedValue;
+import com.github.robtimus.obfuscation.annotation.ObfuscateNone;
+import com.github.robtimus.obfuscation.annotation.ObfuscatePortion;
+import com.github.robtimus.obfuscation.annotation.ObfuscateUsing;
+import com.github.robtimus.obfuscation.annotation.ObfuscatorProvider;
 import com.github.robtimus.obfuscation.annotation.ObjectFactory;
+import com.github.robtimus.obfuscation.annotation.RepresentedBy;
 
+/*
+ * Instances of this class are shared by all beans of a bean factory, and beans can be created concurrently, for instance when using background
+ * bean initialization. All caches are therefore concurrent maps that are read without locking. Cache misses are resolved outside of any lock,
+ * and the results are published using putIfAbsent; if two threads resolve the same entry, both use the instance that was stored first.
+ *
+ * If both Obfuscator and Obfuscated support are enabled, the autowire candidate resolver and the type converter of a bean factory share the same
+ * obfuscator and character representation provider caches, so each obfuscator is resolved only once per bean factory.
+ *
+ * If the bean factory has a parent bean factory with obfuscation support, and the bean factory does not define any beans that obfuscators can
+ * depend on, obfuscators and character representation providers are resolved by the parent. This prevents child contexts from resolving the same
+ * obfuscators and creating the same providers over and over again. If the parent fails to resolve an obfuscator or character representation
+ * provider, for instance because a provider depends on a bean that is only defined in the child bean factory, it is resolved locally instead.
+ */
 abstract class ObfuscatorSupport {
 
     static final Obfuscator DEFAULT_OBFUSCATOR = fixedLength(3);
 
+    static final String RESOLVE_OBFUSCATOR_STEP = "obfuscation.obfuscator.resolve"; //$NON-NLS-1$
+    static final String OBFUSCATE_VALUE_STEP = "obfuscation.value.obfuscate"; //$NON-NLS-1$
+
+    // Annotation instances are usually constant, but synthesized annotations can have arbitrary values; limit the cache to prevent it from
+    // growing indefinitely
+    private static final int MAX_CACHED_OBFUSCATORS = 1024;
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class);
+
+    // Maps each obfuscator annotation type to the name of the obfuscation mode it represents
+    private static final Map<Class<? extends Annotation>, String> OBFUSCATOR_ANNOTATION_TYPES = Map.of(
+            ObfuscateAll.class, "ALL", //$NON-NLS-1$
+            ObfuscateNone.class, "NONE", //$NON-NLS-1$
+            ObfuscateFixedLength.class, "FIXED_LENGTH", //$NON-NLS-1$
+            ObfuscateFixedValue.class, "FIXED_VALUE", //$NON-NLS-1$
+            ObfuscatePortion.class, "PORTION", //$NON-NLS-1$
+            ObfuscateUsing.class, "PROVIDER"); //$NON-NLS-1$
+
+    // If a bean factory defines beans of any of these types, obfuscators of its parent bean factory may not be the same as its own
+    // The annotations that AutowiredAnnotationBeanPostProcessor uses for fields and methods; matched by name, as they may not be available
+    private static final List<String> INJECTION_ANNOTATION_TYPES = List.of(
+            "org.springframework.beans.factory.annotation.Autowired", //$NON-NLS-1$
+            "org.springframework.beans.factory.annotation.Value", //$NON-NLS-1$
+            "jakarta.inject.Inject", //$NON-NLS-1$
+            "javax.inject.Inject"); //$NON-NLS-1$
+
+    private static final List<Class<?>> PARENT_OVERRIDE_TYPES = List.of(
+            Obfuscator.class, ObfuscatorProvider.class, ObfuscatorDecorator.class, CharacterRepresentationProvider.class);
+
+    private static final ClassValue<CharacterRepresentationProvider> DEFAULT_CHARACTER_REPRESENTATION_PROVIDERS = new ClassValue<>() {
+        @Override
+        protected CharacterRepresentationProvider computeValue(Class<?> type) {
+            return CharacterRepresentationProvider.getDefaultInstance(type);
+        }
+    };
+
     private final DefaultListableBeanFactory beanFactory;
     private final ObjectFactory objectFactory;
 
+    // Annotations implement equals and hashCode based on their type and attribute values, so lists of annotations can be used as keys
+    private final Map<List<Annotation>, Optional<Obfuscator>> obfuscators;
+
+    // Keyed by Field or MethodParameter. Looking these up is cheaper than looking up annotations, because annotations compute their hash codes
+    // reflectively. Entries are softly referenced, so caching fields and method parameters does not prevent their classes from being unloaded.
+    private final Map<Object, Optional<Obfuscator>> injectionPointObfuscators;
+
+    private volatile DefaultObfuscator defaultObfuscator;
+
+    // null if not yet determined, empty if obfuscators cannot be resolved by the parent bean factory
+    private volatile Optional<ObfuscatorSupport> parentSupport;
+
+    // Only set if interning is enabled. Entries are softly referenced, so interned values are released if memory runs low.
+    // Interning can be enabled after beans have been created, so the field must be volatile.
+    private volatile Map<InternedValueKey, Obfuscated<?>> internedValues;
+
+    // Set by bean factory post processors, but can be read by threads that initialize beans in the background
+    private volatile boolean qualifiedObfuscators;
+
+    // The number of CharacterRepresentationProvider classes is limited to those used in RepresentedBy annotations, so no limit is needed
+    private final Map<Class<? extends CharacterRepresentationProvider>, CharacterRepresentationProvider> characterRepresentationProviders;
+
     ObfuscatorSupport(DefaultListableBeanFactory beanFactory) {
         this.beanFactory = beanFactory;
         objectFactory = new BeanFactoryObjectFactory(beanFactory);
+
+        List<ObfuscatorSupport> installed = installed(beanFactory);
+        if (installed.isEmpty()) {
+            obfuscators = new ConcurrentHashMap<>();
+            injectionPointObfuscators = new ConcurrentReferenceHashMap<>();
+            characterRepresentationProviders = new ConcurrentHashMap<>();
+        } else {
+            ObfuscatorSupport existing = installed.get(0);
+            obfuscators = existing.obfuscators;
+            injectionPointObfuscators = existing.injectionPointObfuscators;
+            characterRepresentationProviders = existing.characterRepresentationProviders;
+        }
     }
 
     final DefaultListableBeanFactory beanFactory() {
@@ -47,26 +157,477 @@ abstract class ObfuscatorSupport {
     }
 
     final Optional<Obfuscator> optionalObfuscator(Annotation[] annotations) {
-        return objectFactory.obfuscator(annotations);
+        List<Annotation> obfuscatorAnnotations = obfuscatorAnnotations(annotations);
+        if (obfuscatorAnnotations.isEmpty()) {
+            return Optional.empty();
+        }
+        return optionalObfuscator(obfuscatorAnnotations);
+    }
+
+    private Optional<Obfuscator> optionalObfuscator(List<Annotation> obfuscatorAnnotations) {
+        Optional<Obfuscator> obfuscator = obfuscators.get(obfuscatorAnnotations);
+        if (obfuscator == null) {
+            ObfuscatorSupport parent = parentSupport();
+            // Don't use computeIfAbsent; creating an obfuscator can create an ObfuscatorProvider, which in turn can trigger this method again
+            obfuscator = parent != null ? parentObfuscator(parent, obfuscatorAnnotations) : null;
+            if (obfuscator == null) {
+                obfuscator = objectFactory.obfuscator(obfuscatorAnnotations).map(o -> decorate(o, obfuscatorAnnotations));
+            }
+            // The size check and insertion are not atomic, so concurrent cache misses may exceed the limit by at most the number of threads
+            if (obfuscators.size() < MAX_CACHED_OBFUSCATORS) {
+                Optional<Obfuscator> existing = obfuscators.putIfAbsent(obfuscatorAnnotations, obfuscator);
+                if (existing != null) {
+                    obfuscator = existing;
+                }
+            }
+        }
+        return obfuscator;
+    }
+
+    // Returns null if the parent cannot resolve the obfuscator
+    private Optional<Obfuscator> parentObfuscator(ObfuscatorSupport parent, List<Annotation> obfuscatorAnnotations) {
+        try {
+            return parent.optionalObfuscator(obfuscatorAnnotations);
+        } catch (RuntimeException e) {
+            // The parent creates ObfuscatorProviders using its own bean factory, which does not contain the beans of this bean factory.
+            // If a provider depends on such beans, it can only be created by this bean factory.
+            if (isBeansException(e)) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isBeansException(RuntimeException exception) {
+        // ObjectFactory wraps exceptions that are thrown while creating providers in IllegalStateExceptions
+        return exception instanceof BeansException || exception.getCause() instanceof BeansException;
+    }
+
+    private Obfuscator decorate(Obfuscator obfuscator, List<Annotation> obfuscatorAnnotations) {
+        // ObjectFactory.obfuscator uses the first obfuscator annotation
+        String name = OBFUSCATOR_ANNOTATION_TYPES.get(obfuscatorAnnotations.get(0).annotationType());
+        return ObfuscatorDecorator.decorate(obfuscator, name, beanFactory);
+    }
+
+    static List<Annotation> obfuscatorAnnotations(Annotation[] annotations) {
+        List<Annotation> obfuscatorAnnotations = null;
+        for (Annotation annotation : annotations) {
+            if (OBFUSCATOR_ANNOTATION_TYPES.containsKey(annotation.annotationType())) {
+                if (obfuscatorAnnotations == null) {
+                    obfuscatorAnnotations = new ArrayList<>(1);
+                }
+                obfuscatorAnnotations.add(annotation);
+            }
+        }
+        return obfuscatorAnnotations != null ? obfuscatorAnnotations : Collections.emptyList();
+    }
+
+    // Returns whether or not the given field or method is injected by AutowiredAnnotationBeanPostProcessor
+    static boolean isInjected(AnnotatedElement element) {
+        MergedAnnotations annotations = MergedAnnotations.from(element);
+        for (String annotationType : INJECTION_ANNOTATION_TYPES) {
+            if (annotations.isPresent(annotationType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean isObfuscationType(Class<?> type) {
+        return Obfuscator.class.isAssignableFrom(type) || Obfuscated.class.isAssignableFrom(type);
     }
 
     final Obfuscator obfuscator(Annotation[] annotations) {
         return optionalObfuscator(annotations).orElseGet(this::defaultObfuscator);
     }
 
+    final Obfuscator obfuscator(DependencyDescriptor descriptor) {
+        Field field = descriptor.getField();
+        return field != null ? obfuscator(field) : obfuscator(descriptor.getMethodParameter());
+    }
+
+    final Obfuscator obfuscator(Field field) {
+        Optional<Obfuscator> obfuscator = injectionPointObfuscators.get(field);
+        if (obfuscator == null) {
+            obfuscator = resolveObfuscator(field, field.getType());
+            Optional<Obfuscator> existing = injectionPointObfuscators.putIfAbsent(field, obfuscator);
+            if (existing != null) {
+                obfuscator = existing;
+            }
+        }
+        // Don't cache the default obfuscator per injection point; it can change if Obfuscator beans are added or removed
+        return obfuscator.orElseGet(this::defaultObfuscator);
+    }
+
+    final Obfuscator obfuscator(MethodParameter methodParameter) {
+        Optional<Obfuscator> obfuscator = injectionPointObfuscators.get(methodParameter);
+        if (obfuscator == null) {
+            obfuscator = resolveObfuscator(methodParameter, methodParameter.getParameterType());
+            // Method parameters are mutable; store a copy so the key cannot change
+            Optional<Obfuscator> existing = injectionPointObfuscators.putIfAbsent(methodParameter.clone(), obfuscator);
+            if (existing != null) {
+                obfuscator = existing;
+            }
+        }
+        // Don't cache the default obfuscator per injection point; it can change if Obfuscator beans are added or removed
+        return obfuscator.orElseGet(this::defaultObfuscator);
+    }
+
+    // Returns whether or not obfuscators for injection points of the given type are resolved by this object
+    abstract boolean resolvesObfuscators(Class<?> type);
+
+    final Obfuscator warmUp(Field field) {
+        if (!resolvesObfuscators(field.getType())) {
+            return null;
+        }
+        warmUpCharacterRepresentationProviders(field.getAnnotations());
+        return obfuscator(field);
+    }
+
+    final Obfuscator warmUp(MethodParameter methodParameter) {
+        if (!resolvesObfuscators(methodParameter.getParameterType())) {
+            return null;
+        }
+        warmUpCharacterRepresentationProviders(methodParameter.getParameterAnnotations());
+        return obfuscator(methodParameter);
+    }
+
+    private void warmUpCharacterRepresentationProviders(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof RepresentedBy representedBy) {
+                getCharacterRepresentationProvider(representedBy.value());
+            }
+        }
+    }
+
+    private Optional<Obfuscator> resolveObfuscator(Object injectionPoint, Class<?> type) {
+        ObfuscatorResolutionEvent event = new ObfuscatorResolutionEvent();
+        event.begin();
+        StartupStep step = beanFactory.getApplicationStartup().start(RESOLVE_OBFUSCATOR_STEP);
+        // null for precomputed obfuscators
+        Annotation[] annotations = null;
+        String name = null;
+        try {
+            step.tag("injectionPoint", () -> describe(injectionPoint)); //$NON-NLS-1$
+            // Precomputed obfuscators are looked up before the annotations are read, because reading annotations is relatively expensive
+            Obfuscator precomputedObfuscator = precomputedObfuscator(injectionPoint);
+            if (precomputedObfuscator != null) {
+                step.tag("precomputed", "true"); //$NON-NLS-1$ //$NON-NLS-2$
+                return Optional.of(precomputedObfuscator);
+            }
+            annotations = injectionPoint instanceof MethodParameter methodParameter
+                    ? methodParameter.getParameterAnnotations()
+                    : ((Field) injectionPoint).getAnnotations();
+            String obfuscatorName = obfuscatorName(annotations, type, qualifiedObfuscators);
+            Obfuscator namedObfuscator = obfuscatorName != null ? namedObfuscator(obfuscatorName, annotations) : null;
+            if (namedObfuscator != null) {
+                name = obfuscatorName;
+                step.tag("name", name); //$NON-NLS-1$
+                return Optional.of(namedObfuscator);
+            }
+            for (Annotation annotation : annotations) {
+                if (OBFUSCATOR_ANNOTATION_TYPES.containsKey(annotation.annotationType())) {
+                    step.tag("annotationType", annotation.annotationType()::getName); //$NON-NLS-1$
+                }
+                if (annotation instanceof ObfuscateUsing obfuscateUsing) {
+                    step.tag("providerClass", obfuscateUsing.value()::getName); //$NON-NLS-1$
+                }
+            }
+            return optionalObfuscator(annotations);
+        } finally {
+            step.end();
+            commit(event, injectionPoint, annotations, name);
+        }
+    }
+
+    // Returns null if no obfuscator was computed for the injection point during ahead-of-time processing
+    private Obfuscator precomputedObfuscator(Object injectionPoint) {
+        PrecomputedObfuscators precomputedObfuscators = PrecomputedObfuscators.get(beanFactory);
+        return precomputedObfuscators != null
+                ? precomputedObfuscators.obfuscator(injectionPoint,
+                        (obfuscator, annotationType) -> ObfuscatorDecorator.decorate(obfuscator, OBFUSCATOR_ANNOTATION_TYPES.get(annotationType),
+                                beanFactory))
+                : null;
+    }
+
+    // Returns null if the injection point does not refer to an obfuscator in the registry
+    private Obfuscator namedObfuscator(String name, Annotation[] annotations) {
+        ObfuscatorRegistry registry = beanFactory.getBeanProvider(ObfuscatorRegistry.class).getIfAvailable();
+        Obfuscator obfuscator = registry != null ? registry.obfuscator(name).orElse(null) : null;
+        if (obfuscator == null && findAnnotation(annotations, NamedObfuscator.class) != null) {
+            throw new IllegalStateException("No obfuscator registered with name '" + name + "'"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        // For qualifiers that do not match any registered obfuscator, the injection point is resolved as before
+        return obfuscator;
+    }
+
+    private static String obfuscatorName(Annotation[] annotations, Class<?> type, boolean qualifiedObfuscators) {
+        NamedObfuscator namedObfuscator = findAnnotation(annotations, NamedObfuscator.class);
+        if (namedObfuscator != null) {
+            return namedObfuscator.value();
+        }
+        if (!qualifiedObfuscators) {
+            return null;
+        }
+        // Qualifiers on Obfuscator injection points are otherwise ignored, because a value is always suggested for these.
+        // Qualifiers on Obfuscated injection points apply to the value to obfuscate instead.
+        Qualifier qualifier = Obfuscator.class.isAssignableFrom(type) ? findAnnotation(annotations, Qualifier.class) : null;
+        return qualifier != null && !qualifier.value().isEmpty() ? qualifier.value() : null;
+    }
+
+    private static <A extends Annotation> A findAnnotation(Annotation[] annotations, Class<A> annotationType) {
+        for (Annotation annotation : annotations) {
+            if (annotationType.isInstance(annotation)) {
+                return annotationType.cast(annotation);
+            }
+        }
+        return null;
+    }
+
+    private static String describe(Object injectionPoint) {
+        // MethodParameter.toString() does not include the method or constructor
+        return injectionPoint instanceof MethodParameter methodParameter
+                ? "parameter " + methodParameter.getParameterIndex() + " of " + methodParameter.getExecutable() //$NON-NLS-1$ //$NON-NLS-2$
+                : injectionPoint.toString();
+    }
+
+    private static void commit(ObfuscatorResolutionEvent event, Object injectionPoint, Annotation[] annotations, String name) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.injectionPoint = describe(injectionPoint);
+            event.name = name;
+            // Obfuscator annotations are ignored for named obfuscators
+            if (name == null && annotations != null) {
+                for (Annotation annotation : annotations) {
+                    String mode = OBFUSCATOR_ANNOTATION_TYPES.get(annotation.annotationType());
+                    if (mode != null && event.mode == null) {
+                        event.mode = mode;
+                    }
+                    if (annotation instanceof ObfuscateUsing obfuscateUsing && event.providerClass == null) {
+                        event.providerClass = obfuscateUsing.value();
+                    }
+                }
+            }
+            event.commit();
+        }
+    }
+
+    private ObfuscatorSupport parentSupport() {
+        Optional<ObfuscatorSupport> parent = parentSupport;
+        if (parent == null) {
+            if (!beanFactory.isConfigurationFrozen()) {
+                // Bean definitions can still be added, so it's not yet known whether or not the parent's obfuscators can be used
+                return null;
+            }
+            parent = Optional.ofNullable(findParentSupport());
+            parentSupport = parent;
+        }
+        return parent.orElse(null);
+    }
+
+    private ObfuscatorSupport findParentSupport() {
+        if (!(beanFactory.getParentBeanFactory() instanceof DefaultListableBeanFactory parentBeanFactory)) {
+            return null;
+        }
+        for (Class<?> type : PARENT_OVERRIDE_TYPES) {
+            // This only checks the bean factory itself, not its ancestors
+            if (beanFactory.getBeanNamesForType(type, true, false).length > 0) {
+                return null;
+            }
+        }
+        List<ObfuscatorSupport> parentSupports = installed(parentBeanFactory);
+        return parentSupports.isEmpty() ? null : parentSupports.get(0);
+    }
+
+    static List<ObfuscatorSupport> installed(DefaultListableBeanFactory beanFactory) {
+        List<ObfuscatorSupport> result = new ArrayList<>(2);
+        if (beanFactory.getAutowireCandidateResolver() instanceof ObfuscatorSupport resolver) {
+            result.add(resolver);
+        }
+        if (beanFactory.getTypeConverter() instanceof ObfuscatorSupport typeConverter) {
+            result.add(typeConverter);
+        }
+        return result;
+    }
+
     private Obfuscator defaultObfuscator() {
+        if (!beanFactory.isConfigurationFrozen()) {
+            // Bean definitions can still be added or changed, so the default obfuscator cannot be cached yet
+            return lookupDefaultObfuscator();
+        }
+
+        // Once the configuration is frozen, the bean factory caches the bean names per type until a bean definition or singleton is
+        // registered or removed. The same array instance is returned until then, so it can be used to detect these changes.
+        String[] beanNames = beanFactory.getBeanNamesForType(Obfuscator.class);
+        DefaultObfuscator cached = defaultObfuscator;
+        if (cached != null && cached.beanNames == beanNames) {
+            return cached.obfuscator;
+        }
+        Obfuscator obfuscator = lookupDefaultObfuscator();
+        if (allSingletons(beanNames)) {
+            defaultObfuscator = new DefaultObfuscator(beanNames, obfuscator);
+        }
+        return obfuscator;
+    }
+
+    private Obfuscator lookupDefaultObfuscator() {
         ObjectProvider<Obfuscator> beanProvider = beanFactory.getBeanProvider(Obfuscator.class);
         return beanProvider.getIfAvailable(() -> DEFAULT_OBFUSCATOR);
     }
 
+    private boolean allSingletons(String[] beanNames) {
+        for (String beanName : beanNames) {
+            if (!beanFactory.isSingleton(beanName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private CharacterRepresentationProvider getCharacterRepresentationProvider(Annotation[] annotations, Class<?> type) {
-        return objectFactory().characterRepresentationProvider(annotations)
-                .orElseGet(() -> CharacterRepresentationProvider.getDefaultInstance(type));
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof RepresentedBy representedBy) {
+                return getCharacterRepresentationProvider(representedBy.value());
+            }
+        }
+        return type != null
+                ? DEFAULT_CHARACTER_REPRESENTATION_PROVIDERS.get(type)
+                : CharacterRepresentationProvider.getDefaultInstance(type);
+    }
+
+    private CharacterRepresentationProvider getCharacterRepresentationProvider(Class<? extends CharacterRepresentationProvider> providerClass) {
+        CharacterRepresentationProvider characterRepresentationProvider = characterRepresentationProviders.get(providerClass);
+        if (characterRepresentationProvider == null) {
+            ObfuscatorSupport parent = parentSupport();
+            // Don't use computeIfAbsent; creating a CharacterRepresentationProvider can trigger this method again
+            characterRepresentationProvider = parent != null ? parentCharacterRepresentationProvider(parent, providerClass) : null;
+            if (characterRepresentationProvider == null) {
+                characterRepresentationProvider = objectFactory.characterRepresentationProvider(providerClass);
+            }
+            CharacterRepresentationProvider existing = characterRepresentationProviders.putIfAbsent(providerClass, characterRepresentationProvider);
+            if (existing != null) {
+                characterRepresentationProvider = existing;
+            }
+        }
+        return characterRepresentationProvider;
+    }
+
+    // Returns null if the parent cannot create the CharacterRepresentationProvider
+    private CharacterRepresentationProvider parentCharacterRepresentationProvider(ObfuscatorSupport parent,
+            Class<? extends CharacterRepresentationProvider> providerClass) {
+
+        try {
+            return parent.getCharacterRepresentationProvider(providerClass);
+        } catch (RuntimeException e) {
+            // Like ObfuscatorProviders, CharacterRepresentationProviders can depend on beans of this bean factory only
+            if (isBeansException(e)) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    final void enableQualifiedObfuscators() {
+        qualifiedObfuscators = true;
+    }
+
+    final synchronized void enableValueInterning() {
+        if (internedValues == null) {
+            internedValues = new ConcurrentReferenceHashMap<>();
+        }
     }
 
-    @SuppressWarnings("unchecked")
     final <T> T obfuscateValue(Object unobfuscatedValue, Obfuscator obfuscator, Annotation[] annotations, Class<?> type) {
-        CharacterRepresentationProvider characterRepresentationProvider = getCharacterRepresentationProvider(annotations, type);
+        ApplicationStartup applicationStartup = beanFactory.getApplicationStartup();
+        if (applicationStartup == ApplicationStartup.DEFAULT) {
+            // The default application startup does not record anything. Values can be obfuscated long after the application has started,
+            // for instance for prototype beans, so don't create steps and tag suppliers for nothing.
+            return obfuscateValue(unobfuscatedValue, obfuscator, getCharacterRepresentationProvider(annotations, type));
+        }
+        StartupStep step = applicationStartup.start(OBFUSCATE_VALUE_STEP);
+        try {
+            step.tag("type", () -> String.valueOf(type)); //$NON-NLS-1$
+            CharacterRepresentationProvider characterRepresentationProvider = getCharacterRepresentationProvider(annotations, type);
+            step.tag("characterRepresentationProvider", characterRepresentationProvider.getClass()::getName); //$NON-NLS-1$
+            return obfuscateValue(unobfuscatedValue, obfuscator, characterRepresentationProvider);
+        } finally {
+            step.end();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T obfuscateValue(Object unobfuscatedValue, Obfuscator obfuscator, CharacterRepresentationProvider characterRepresentationProvider) {
+        Map<InternedValueKey, Obfuscated<?>> interned = internedValues;
+        if (interned != null && isImmutable(unobfuscatedValue)) {
+            return (T) internedValue(interned, unobfuscatedValue, obfuscator, characterRepresentationProvider);
+        }
         return (T) obfuscator.obfuscateObject(unobfuscatedValue, () -> characterRepresentationProvider.toCharSequence(unobfuscatedValue));
     }
+
+    private static Obfuscated<?> internedValue(Map<InternedValueKey, Obfuscated<?>> interned, Object unobfuscatedValue, Obfuscator obfuscator,
+            CharacterRepresentationProvider characterRepresentationProvider) {
+
+        InternedValueKey key = new InternedValueKey(unobfuscatedValue, obfuscator, characterRepresentationProvider);
+        Obfuscated<?> obfuscated = interned.get(key);
+        if (obfuscated == null) {
+            obfuscated = obfuscator.obfuscateObject(unobfuscatedValue, () -> characterRepresentationProvider.toCharSequence(unobfuscatedValue));
+            // The value is immutable, so its obfuscated representation can be cached as well, unless the obfuscator can change.
+            // Values obfuscated by such obfuscators are still interned; they obfuscate using the current obfuscator each time.
+            if (!DelegatingObfuscator.isReplaceable(obfuscator)) {
+                obfuscated = obfuscated.cached();
+            }
+            Obfuscated<?> existing = interned.putIfAbsent(key, obfuscated);
+            if (existing != null) {
+                obfuscated = existing;
+            }
+        }
+        return obfuscated;
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value != null && (IMMUTABLE_TYPES.contains(value.getClass()) || value instanceof Enum<?>);
+    }
+
+    private static final class InternedValueKey {
+
+        private final Object value;
+        private final Obfuscator obfuscator;
+        private final CharacterRepresentationProvider characterRepresentationProvider;
+
+        private InternedValueKey(Object value, Obfuscator obfuscator, CharacterRepresentationProvider characterRepresentationProvider) {
+            this.value = value;
+            this.obfuscator = obfuscator;
+            this.characterRepresentationProvider = characterRepresentationProvider;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || o.getClass() != getClass()) {
+                return false;
+            }
+            InternedValueKey other = (InternedValueKey) o;
+            return value.equals(other.value)
+                    && obfuscator.equals(other.obfuscator)
+                    && characterRepresentationProvider == other.characterRepresentationProvider;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(value, obfuscator, System.identityHashCode(characterRepresentationProvider));
+        }
+    }
+
+    private static final class DefaultObfuscator {
+
+        private final String[] beanNames;
+        private final Obfuscator obfuscator;
+
+        private DefaultObfuscator(String[] beanNames, Obfuscator obfuscator) {
+            this.beanNames = beanNames;
+            this.obfuscator = obfuscator;
+        }
+    }
 }
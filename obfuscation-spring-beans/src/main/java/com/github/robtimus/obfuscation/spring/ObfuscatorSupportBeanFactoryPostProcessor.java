@@ -18,11 +18,8 @@
 package com.github.robtimus.obfuscation.spring;
 
 import org.springframework.beans.BeansException;
-import org.springframework.beans.factory.config.BeanDefinitionHolder;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
-import org.springframework.beans.factory.config.DependencyDescriptor;
-import org.springframework.beans.factory.support.AutowireCandidateResolver;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import com.github.robtimus.obfuscation.Obfuscator;
 import com.github.robtimus.obfuscation.annotation.ObfuscateAll;
@@ -35,68 +32,41 @@ import com.github.robtimus.obfuscation.annotation.ObfuscateUsing;
  * If an instance of this class is activated, it will allow instances of {@link Obfuscator} to be autowired.
  * The type of {@link Obfuscator} is determined as follows:
  * <ul>
- * <li>If the {@link Obfuscator} field, constructor argument or method argument is annotated with an {@link Obfuscator} annotation like
+ * <li>If the {@link Obfuscator} field, constructor argument or method argument is annotated with {@link NamedObfuscator}, the obfuscator with
+ *     the annotation's name is taken from the {@link ObfuscatorRegistry} bean. If {@link #setQualifiedObfuscators(boolean)} is used to enable
+ *     it, the same applies for a {@code Qualifier} annotation if the registry contains an obfuscator with the qualifier's value.</li>
+ * <li>Otherwise, if the {@link Obfuscator} field, constructor argument or method argument is annotated with an {@link Obfuscator} annotation like
  *     {@link ObfuscateAll}, {@link ObfuscateFixedLength} or {@link ObfuscateUsing}, the autowired {@link Obfuscator} will match the annotation.</li>
  * <li>Otherwise, if a bean of type {@link Obfuscator} is available, that will be autowired.</li>
  * <li>Otherwise, a default {@link Obfuscator} will be autowired. This will be the result of calling
  *     {@link Obfuscator#fixedLength(int) Obfuscator.fixedLength(3)}.</li>
  * </ul>
+ * <p>
+ * This post processor can be combined with {@link ObfuscatedSupportBeanFactoryPostProcessor}.
+ * If both are activated, the support for both is provided by one single autowire candidate resolver.
  *
  * @author Rob Spoor
  */
 public class ObfuscatorSupportBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
 
+    private boolean qualifiedObfuscators = false;
+
+    /**
+     * Sets whether or not {@link Obfuscator} injection points that are annotated with {@code Qualifier} should use the obfuscator with the
+     * qualifier's value from the {@link ObfuscatorRegistry} bean, if the registry contains it.
+     * If enabled, adding an obfuscator to the registry changes what is injected into existing injection points that are qualified with the
+     * obfuscator's name. The default is {@code false}.
+     *
+     * @param qualifiedObfuscators {@code true} to use obfuscators from the registry for qualified injection points, or {@code false} otherwise.
+     * @since 3.1
+     */
+    public void setQualifiedObfuscators(boolean qualifiedObfuscators) {
+        this.qualifiedObfuscators = qualifiedObfuscators;
+    }
+
     @Override
     public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
         DefaultListableBeanFactory listableBeanFactory = (DefaultListableBeanFactory) beanFactory;
-        listableBeanFactory.setAutowireCandidateResolver(new ObfuscatorAutowireCandidateResolver(listableBeanFactory));
-    }
-
-    private static final class ObfuscatorAutowireCandidateResolver extends ObfuscatorSupport implements AutowireCandidateResolver {
-
-        private final AutowireCandidateResolver delegate;
-
-        private ObfuscatorAutowireCandidateResolver(DefaultListableBeanFactory beanFactory) {
-            this(beanFactory.getAutowireCandidateResolver(), beanFactory);
-        }
-
-        private ObfuscatorAutowireCandidateResolver(AutowireCandidateResolver delegate, DefaultListableBeanFactory beanFactory) {
-            super(beanFactory);
-            this.delegate = delegate;
-        }
-
-        @Override
-        public boolean isAutowireCandidate(BeanDefinitionHolder bdHolder, DependencyDescriptor descriptor) {
-            return delegate.isAutowireCandidate(bdHolder, descriptor);
-        }
-
-        @Override
-        public boolean isRequired(DependencyDescriptor descriptor) {
-            return delegate.isRequired(descriptor);
-        }
-
-        @Override
-        public boolean hasQualifier(DependencyDescriptor descriptor) {
-            return delegate.hasQualifier(descriptor);
-        }
-
-        @Override
-        public Object getSuggestedValue(DependencyDescriptor descriptor) {
-            if (Obfuscator.class.isAssignableFrom(descriptor.getDeclaredType())) {
-                return obfuscator(descriptor.getAnnotations());
-            }
-            return delegate.getSuggestedValue(descriptor);
-        }
-
-        @Override
-        public Object getLazyResolutionProxyIfNecessary(DependencyDescriptor descriptor, String beanName) {
-            return delegate.getLazyResolutionProxyIfNecessary(descriptor, beanName);
-        }
-
-        @Override
-        public AutowireCandidateResolver cloneIfNecessary() {
-            AutowireCandidateResolver clonedDelegate = delegate.cloneIfNecessary();
-            return clonedDelegate == delegate ? this : new ObfuscatorAutowireCandidateResolver(clonedDelegate, beanFactory());
-        }
+        ObfuscationAutowireCandidateResolver.enableObfuscatorSupport(listableBeanFactory, qualifiedObfuscators);
     }
 }
@@ -0,0 +1,217 @@
+/*
+ * PrecomputedObfuscators.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.util.ClassUtils;
+import com.github.robtimus.obfuscation.Obfuscated;
+import com.github.robtimus.obfuscation.Obfuscator;
+
+/**
+ * Obfuscators for {@link Obfuscator} and {@link Obfuscated} injection points that were computed during ahead-of-time processing.
+ * <p>
+ * Instances of this class are populated by code that is generated during ahead-of-time processing. Obfuscators for injection points that are
+ * registered with an instance of this class are used instead of obfuscators that are created from the injection points' annotations.
+ * They are still decorated by any {@link ObfuscatorDecorator} beans.
+ * <p>
+ * This class is public so generated code can access it. It should not be used directly.
+ *
+ * @author Rob Spoor
+ * @since 3.1
+ */
+public final class PrecomputedObfuscators {
+
+    private static final String BEAN_NAME = PrecomputedObfuscators.class.getName();
+
+    private static final String CONSTRUCTOR_NAME = "<init>"; //$NON-NLS-1$
+
+    private final ClassLoader classLoader;
+
+    // The injection point descriptions of the generated code are resolved when they are added, so looking up fields and parameters does not
+    // need to create descriptions. Entries are only added while the bean factory is being initialized.
+    private final Map<Field, Entry> fieldEntries = new ConcurrentHashMap<>();
+    // Keyed by constructor or method; the values are indexed by parameter index
+    private final Map<Executable, Entry[]> parameterEntries = new ConcurrentHashMap<>();
+
+    private PrecomputedObfuscators(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Returns the precomputed obfuscators for a bean factory. If the bean factory does not have any precomputed obfuscators yet, a new instance
+     * is registered with it.
+     *
+     * @param beanFactory The bean factory to return the precomputed obfuscators for.
+     * @return The precomputed obfuscators for the given bean factory.
+     * @throws NullPointerException If the given bean factory is {@code null}.
+     */
+    public static PrecomputedObfuscators register(DefaultListableBeanFactory beanFactory) {
+        synchronized (PrecomputedObfuscators.class) {
+            PrecomputedObfuscators precomputedObfuscators = get(beanFactory);
+            if (precomputedObfuscators == null) {
+                precomputedObfuscators = new PrecomputedObfuscators(beanFactory.getBeanClassLoader());
+                beanFactory.registerSingleton(BEAN_NAME, precomputedObfuscators);
+            }
+            return precomputedObfuscators;
+        }
+    }
+
+    static PrecomputedObfuscators get(DefaultListableBeanFactory beanFactory) {
+        return beanFactory.getSingleton(BEAN_NAME) instanceof PrecomputedObfuscators precomputedObfuscators ? precomputedObfuscators : null;
+    }
+
+    /**
+     * Adds a precomputed obfuscator.
+     * Injection points that do not match any field or constructor or method parameter are ignored; their obfuscators are created from their
+     * annotations at runtime.
+     *
+     * @param annotationType The type of obfuscator annotation the obfuscator was computed from.
+     * @param obfuscator The precomputed obfuscator.
+     * @param injectionPoints Descriptions of the injection points to use the obfuscator for.
+     * @return This object.
+     * @throws NullPointerException If any of the arguments is {@code null}.
+     */
+    public synchronized PrecomputedObfuscators add(Class<? extends Annotation> annotationType, Obfuscator obfuscator, String... injectionPoints) {
+        Entry entry = new Entry(annotationType, obfuscator);
+        for (String injectionPoint : injectionPoints) {
+            Object resolved = resolve(Objects.requireNonNull(injectionPoint));
+            if (resolved instanceof Field field) {
+                fieldEntries.put(field, entry);
+            } else if (resolved instanceof MethodParameter methodParameter) {
+                Executable executable = methodParameter.getExecutable();
+                // Arrays are replaced instead of updated, so lookups never see partially updated arrays
+                Entry[] entries = parameterEntries.get(executable);
+                entries = entries != null ? entries.clone() : new Entry[executable.getParameterCount()];
+                entries[methodParameter.getParameterIndex()] = entry;
+                parameterEntries.put(executable, entries);
+            }
+        }
+        return this;
+    }
+
+    // Returns the field or method parameter for the given description, or null if it cannot be found
+    private Object resolve(String injectionPoint) {
+        int index = injectionPoint.indexOf('#');
+        String className = index == -1 ? null : injectionPoint.substring(0, index);
+        if (className == null || !ClassUtils.isPresent(className, classLoader)) {
+            return null;
+        }
+        Class<?> type = ClassUtils.resolveClassName(className, classLoader);
+
+        int parameterStart = injectionPoint.indexOf('(', index);
+        if (parameterStart == -1) {
+            for (Field field : type.getDeclaredFields()) {
+                if (injectionPoint.equals(injectionPoint(field))) {
+                    return field;
+                }
+            }
+            return null;
+        }
+        int parameterIndex = parameterIndex(injectionPoint);
+        String name = injectionPoint.substring(index + 1, parameterStart);
+        Executable[] executables = CONSTRUCTOR_NAME.equals(name) ? type.getDeclaredConstructors() : type.getDeclaredMethods();
+        for (Executable executable : executables) {
+            if (parameterIndex >= 0 && parameterIndex < executable.getParameterCount()
+                    && injectionPoint.equals(injectionPoint(executable, parameterIndex))) {
+                return MethodParameter.forExecutable(executable, parameterIndex);
+            }
+        }
+        return null;
+    }
+
+    private static int parameterIndex(String injectionPoint) {
+        int start = injectionPoint.lastIndexOf('[');
+        try {
+            return start == -1 ? -1 : Integer.parseInt(injectionPoint.substring(start + 1, injectionPoint.length() - 1));
+        } catch (NumberFormatException e) {
+            // Not a description that was generated during ahead-of-time processing
+            return -1;
+        }
+    }
+
+    // Returns null if no obfuscator was precomputed for the injection point
+    Obfuscator obfuscator(Object injectionPoint, BiFunction<Obfuscator, Class<? extends Annotation>, Obfuscator> decorator) {
+        Entry entry;
+        if (injectionPoint instanceof MethodParameter methodParameter) {
+            Entry[] entries = parameterEntries.get(methodParameter.getExecutable());
+            int parameterIndex = methodParameter.getParameterIndex();
+            entry = entries != null && parameterIndex >= 0 ? entries[parameterIndex] : null;
+        } else {
+            entry = fieldEntries.get(injectionPoint);
+        }
+        return entry != null ? entry.decorated(decorator) : null;
+    }
+
+    static String injectionPoint(Field field) {
+        return field.getDeclaringClass().getName() + '#' + field.getName();
+    }
+
+    static String injectionPoint(Executable executable, int parameterIndex) {
+        StringBuilder sb = new StringBuilder()
+                .append(executable.getDeclaringClass().getName())
+                .append('#')
+                .append(executable instanceof Constructor<?> ? CONSTRUCTOR_NAME : executable.getName())
+                .append('(');
+        Class<?>[] parameterTypes = executable.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(parameterTypes[i].getName());
+        }
+        return sb.append(")[").append(parameterIndex).append(']').toString(); //$NON-NLS-1$
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return getClass().getName() + "[fields=" + fieldEntries.keySet() + ",parameters=" + parameterEntries.keySet() + "]";
+    }
+    private static final class Entry {
+
+        private final Class<? extends Annotation> annotationType;
+        private final Obfuscator obfuscator;
+
+        // Entries are shared by all injection points with the same annotation, so they are decorated only once
+        private volatile Obfuscator decorated;
+
+        private Entry(Class<? extends Annotation> annotationType, Obfuscator obfuscator) {
+            this.annotationType = Objects.requireNonNull(annotationType);
+            this.obfuscator = Objects.requireNonNull(obfuscator);
+        }
+
+        private Obfuscator decorated(BiFunction<Obfuscator, Class<? extends Annotation>, Obfuscator> decorator) {
+            Obfuscator result = decorated;
+            if (result == null) {
+                // Decorating twice is harmless; the last one wins
+                result = decorator.apply(obfuscator, annotationType);
+                decorated = result;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * ProviderCachingBeanFactoryPostProcessor.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import com.github.robtimus.obfuscation.annotation.CharacterRepresentationProvider;
+import com.github.robtimus.obfuscation.annotation.ObfuscatorProvider;
+
+/**
+ * A {@link BeanFactoryPostProcessor} that lets {@link BeanFactoryObjectFactory} instances reuse the objects they create.
+ * <p>
+ * By default, a {@link BeanFactoryObjectFactory} creates a new instance of an {@link ObfuscatorProvider} or {@link CharacterRepresentationProvider}
+ * class each time no bean of that class is available. If an instance of this class is activated, each such class is instead created only once
+ * per bean factory, and the created instance is reused for all injection points and all other {@link BeanFactoryObjectFactory} instances that
+ * are backed by the same bean factory.
+ * Created instances are destroyed when the bean factory is destroyed.
+ * <p>
+ * Only activate this post processor if all {@link ObfuscatorProvider} and {@link CharacterRepresentationProvider} classes that are not available
+ * as beans are safe to share.
+ *
+ * @author Rob Spoor
+ * @since 3.1
+ */
+public class ProviderCachingBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        DefaultListableBeanFactory listableBeanFactory = (DefaultListableBeanFactory) beanFactory;
+        if (!listableBeanFactory.containsSingleton(ProviderInstanceCache.BEAN_NAME)) {
+            ProviderInstanceCache instanceCache = new ProviderInstanceCache(listableBeanFactory);
+            listableBeanFactory.registerSingleton(ProviderInstanceCache.BEAN_NAME, instanceCache);
+            listableBeanFactory.registerDisposableBean(ProviderInstanceCache.BEAN_NAME, instanceCache);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * ProviderInstanceCache.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+
+final class ProviderInstanceCache implements DisposableBean {
+
+    static final String BEAN_NAME = "com.github.robtimus.obfuscation.spring.internalProviderInstanceCache"; //$NON-NLS-1$
+
+    private final AutowireCapableBeanFactory beanFactory;
+
+    private final Map<Class<?>, Object> instances = new ConcurrentHashMap<>();
+
+    ProviderInstanceCache(AutowireCapableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    <T> T instance(Class<T> type) {
+        Object instance = instances.get(type);
+        if (instance == null) {
+            // Don't use computeIfAbsent; creating an instance can autowire obfuscators, which in turn can trigger this method again
+            T created = beanFactory.createBean(type);
+            instance = instances.putIfAbsent(type, created);
+            if (instance == null) {
+                return created;
+            }
+            // Another thread was faster; the created instance will not be used, so it should be destroyed immediately
+            beanFactory.destroyBean(created);
+        }
+        return type.cast(instance);
+    }
+
+    @Override
+    public void destroy() {
+        for (Object instance : instances.values()) {
+            beanFactory.destroyBean(instance);
+        }
+        instances.clear();
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * ConcurrentObfuscationTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+import com.github.robtimus.obfuscation.Obfuscated;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.annotation.ObfuscateFixedValue;
+import com.github.robtimus.obfuscation.annotation.ObfuscatePortion;
+import com.github.robtimus.obfuscation.annotation.ObfuscateUsing;
+import com.github.robtimus.obfuscation.annotation.ObfuscatorProvider;
+
+@SuppressWarnings("nls")
+class ConcurrentObfuscationTest {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int ITERATIONS = 500;
+
+    @BeforeEach
+    @AfterEach
+    void resetCounts() {
+        CountingObfuscatorProvider.CREATED.set(0);
+        CountingObfuscatorProvider.DESTROYED.set(0);
+    }
+
+    @Test
+    @DisplayName("concurrent injection of the same and different annotated injection points")
+    void testConcurrentInjection() throws Exception {
+        List<Object> beans;
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ProcessorProvider.class,
+                FixedValueBean.class, OtherFixedValueBean.class, ProvidedBean.class)) {
+
+            beans = createBeansConcurrently(context);
+
+            // With provider caching, instances that lost the race to be cached are destroyed immediately
+            assertEquals(1, CountingObfuscatorProvider.CREATED.get() - CountingObfuscatorProvider.DESTROYED.get());
+        }
+        assertEquals(CountingObfuscatorProvider.CREATED.get(), CountingObfuscatorProvider.DESTROYED.get());
+
+        assertEquals(THREAD_COUNT * ITERATIONS, beans.size());
+
+        Obfuscator expectedFixedValue = Obfuscator.fixedValue("<fixed>");
+        Obfuscator expectedPortion = Obfuscator.portion().keepAtStart(1).build();
+
+        Obfuscator fixedValueObfuscator = null;
+        Obfuscated<String> fixedValueObfuscated = null;
+        Obfuscator providedObfuscator = null;
+        Obfuscated<Integer> portionObfuscated = null;
+
+        for (Object bean : beans) {
+            if (bean instanceof FixedValueBean fixedValueBean) {
+                fixedValueObfuscator = assertSameIfSet(fixedValueObfuscator, fixedValueBean.obfuscator);
+                fixedValueObfuscated = assertSameIfSet(fixedValueObfuscated, fixedValueBean.obfuscated);
+            } else if (bean instanceof OtherFixedValueBean otherFixedValueBean) {
+                // Different injection points with the same annotations share the same obfuscator
+                fixedValueObfuscator = assertSameIfSet(fixedValueObfuscator, otherFixedValueBean.obfuscator);
+                fixedValueObfuscated = assertSameIfSet(fixedValueObfuscated, otherFixedValueBean.obfuscated);
+            } else {
+                ProvidedBean providedBean = (ProvidedBean) bean;
+                providedObfuscator = assertSameIfSet(providedObfuscator, providedBean.obfuscator);
+                portionObfuscated = assertSameIfSet(portionObfuscated, providedBean.obfuscated);
+            }
+        }
+
+        assertEquals(expectedFixedValue, fixedValueObfuscator);
+        assertEquals(expectedFixedValue.obfuscateObject("value"), fixedValueObfuscated);
+        assertSame(CountingObfuscatorProvider.OBFUSCATOR, providedObfuscator);
+        assertEquals(expectedPortion.obfuscateObject(42), portionObfuscated);
+        assertEquals(42, portionObfuscated.value());
+    }
+
+    private static <T> T assertSameIfSet(T expected, T actual) {
+        if (expected != null) {
+            assertSame(expected, actual);
+        }
+        return actual;
+    }
+
+    private static List<Object> createBeansConcurrently(AnnotationConfigApplicationContext context) throws Exception {
+        Class<?>[] beanTypes = { FixedValueBean.class, OtherFixedValueBean.class, ProvidedBean.class };
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            CountDownLatch startSignal = new CountDownLatch(1);
+            List<Future<List<Object>>> futures = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                int offset = i;
+                futures.add(executor.submit(() -> {
+                    startSignal.await();
+                    List<Object> result = new ArrayList<>(ITERATIONS);
+                    for (int j = 0; j < ITERATIONS; j++) {
+                        result.add(context.getBean(beanTypes[(offset + j) % beanTypes.length]));
+                    }
+                    return result;
+                }));
+            }
+            startSignal.countDown();
+
+            List<Object> beans = new ArrayList<>();
+            for (Future<List<Object>> future : futures) {
+                beans.addAll(future.get(1, TimeUnit.MINUTES));
+            }
+            return beans;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Configuration
+    static class ProcessorProvider {
+
+        @Bean
+        static ObfuscatorSupportBeanFactoryPostProcessor obfuscatorSupportPostProcessor() {
+            return new ObfuscatorSupportBeanFactoryPostProcessor();
+        }
+
+        @Bean
+        static ObfuscatedSupportBeanFactoryPostProcessor obfuscatedSupportPostProcessor() {
+            ObfuscatedSupportBeanFactoryPostProcessor postProcessor = new ObfuscatedSupportBeanFactoryPostProcessor();
+            postProcessor.setInternValues(true);
+            return postProcessor;
+        }
+
+        @Bean
+        static ProviderCachingBeanFactoryPostProcessor providerCachingPostProcessor() {
+            return new ProviderCachingBeanFactoryPostProcessor();
+        }
+    }
+
+    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+    static class FixedValueBean {
+
+        @Autowired
+        @ObfuscateFixedValue("<fixed>")
+        private Obfuscator obfuscator;
+
+        @Value("value")
+        @ObfuscateFixedValue("<fixed>")
+        private Obfuscated<String> obfuscated;
+    }
+
+    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+    static class OtherFixedValueBean {
+
+        private final Obfuscator obfuscator;
+        private final Obfuscated<String> obfuscated;
+
+        OtherFixedValueBean(@ObfuscateFixedValue("<fixed>") Obfuscator obfuscator,
+                @Value("value") @ObfuscateFixedValue("<fixed>") Obfuscated<String> obfuscated) {
+
+            this.obfuscator = obfuscator;
+            this.obfuscated = obfuscated;
+        }
+    }
+
+    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+    static class ProvidedBean {
+
+        @Autowired
+        @ObfuscateUsing(CountingObfuscatorProvider.class)
+        private Obfuscator obfuscator;
+
+        // Requires a conversion from String to Integer by the bean factory's type converter
+        @Value("42")
+        @ObfuscatePortion(keepAtStart = 1)
+        private Obfuscated<Integer> obfuscated;
+    }
+
+    static class CountingObfuscatorProvider implements ObfuscatorProvider, DisposableBean {
+
+        static final Obfuscator OBFUSCATOR = Obfuscator.fixedValue("<counted>");
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        CountingObfuscatorProvider() {
+            CREATED.incrementAndGet();
+        }
+
+        @Override
+        public Obfuscator obfuscator() {
+            return OBFUSCATOR;
+        }
+
+        @Override
+        public void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * DelegatingObfuscatorTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.obfuscation.Obfuscator;
+
+@SuppressWarnings("nls")
+class DelegatingObfuscatorTest {
+
+    @Test
+    @DisplayName("all obfuscation methods are recorded")
+    void testRecorded() throws IOException {
+        RecordingObfuscator obfuscator = new RecordingObfuscator(Obfuscator.fixedLength(3));
+
+        assertEquals("***", obfuscator.obfuscateText("hello").toString());
+        assertEquals("***", obfuscator.obfuscateText("hello world", 6, 11).toString());
+
+        StringBuilder sb = new StringBuilder();
+        obfuscator.obfuscateText("hello", sb);
+        obfuscator.obfuscateText("hello world", 6, 11, sb);
+        assertEquals("******", sb.toString());
+
+        StringBuffer buffer = new StringBuffer();
+        obfuscator.obfuscateText("hello", buffer);
+        obfuscator.obfuscateText("hello world", 6, 11, buffer);
+        assertEquals("******", buffer.toString());
+
+        Appendable appendable = new StringBuilder();
+        obfuscator.obfuscateText("hello", appendable);
+        obfuscator.obfuscateText("hello world", 6, 11, appendable);
+        obfuscator.obfuscateText(new StringReader("hello"), appendable);
+        assertEquals("*********", appendable.toString());
+
+        assertEquals("***", obfuscator.obfuscateText(new StringReader("hello")).toString());
+
+        assertEquals(List.of(5, 5, 5, 5, 5, 5, 5, 5, -1, -1), obfuscator.inputLengths);
+    }
+
+    @Test
+    @DisplayName("streaming obfuscation is not recorded")
+    void testStreamTo() throws IOException {
+        RecordingObfuscator obfuscator = new RecordingObfuscator(Obfuscator.fixedLength(3));
+
+        StringBuilder sb = new StringBuilder();
+        try (Writer writer = obfuscator.streamTo(sb)) {
+            writer.write("hello");
+        }
+        assertEquals("***", sb.toString());
+        assertEquals(List.of(), obfuscator.inputLengths);
+    }
+
+    @Test
+    @DisplayName("toString")
+    void testToString() {
+        Obfuscator delegate = Obfuscator.fixedLength(3);
+        RecordingObfuscator obfuscator = new RecordingObfuscator(delegate);
+
+        assertEquals(delegate.toString(), obfuscator.toString());
+    }
+
+    @Test
+    @DisplayName("isReplaceable")
+    void testIsReplaceable() {
+        Obfuscator delegate = Obfuscator.fixedLength(3);
+        RecordingObfuscator obfuscator = new RecordingObfuscator(delegate);
+        ReplaceableObfuscator replaceable = new ReplaceableObfuscator(delegate);
+
+        assertFalse(DelegatingObfuscator.isReplaceable(delegate));
+        assertFalse(DelegatingObfuscator.isReplaceable(obfuscator));
+        assertTrue(DelegatingObfuscator.isReplaceable(replaceable));
+        // Decorated replaceable obfuscators are replaceable as well
+        assertTrue(DelegatingObfuscator.isReplaceable(new RecordingObfuscator(replaceable)));
+    }
+
+    private static final class ReplaceableObfuscator extends DelegatingObfuscator {
+
+        private final Obfuscator delegate;
+
+        private ReplaceableObfuscator(Obfuscator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected Obfuscator delegate() {
+            return delegate;
+        }
+
+        @Override
+        protected boolean isDelegateReplaceable() {
+            return true;
+        }
+    }
+
+    private static final class RecordingObfuscator extends DelegatingObfuscator {
+
+        private final Obfuscator delegate;
+        private final List<Integer> inputLengths = new ArrayList<>();
+
+        private RecordingObfuscator(Obfuscator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected Obfuscator delegate() {
+            return delegate;
+        }
+
+        @Override
+        protected void after(long start, int inputLength) {
+            inputLengths.add(inputLength);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * FlightRecorderObfuscatorDecoratorTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.github.robtimus.obfuscation.Obfuscator;
+
+@SuppressWarnings("nls")
+class FlightRecorderObfuscatorDecoratorTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("events are emitted if enabled")
+    void testEventsEnabled() throws IOException {
+        Obfuscator obfuscator = new FlightRecorderObfuscatorDecorator().decorate(Obfuscator.fixedLength(3), "FIXED_LENGTH");
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(ObfuscationEvent.class);
+            recording.start();
+
+            assertEquals("***", obfuscator.obfuscateText("hello").toString());
+            assertEquals("***", obfuscator.obfuscateText("hello world", 6, 11).toString());
+            assertEquals("***", obfuscator.obfuscateText(new StringReader("hello")).toString());
+
+            recording.stop();
+            events = recordedEvents(recording);
+        }
+
+        assertEquals(3, events.size());
+        assertEquals(List.of("FIXED_LENGTH", "FIXED_LENGTH", "FIXED_LENGTH"), events.stream().map(e -> e.getString("mode")).toList());
+        assertEquals(List.of(5, 5, -1), events.stream().map(e -> e.getInt("inputLength")).toList());
+    }
+
+    @Test
+    @DisplayName("events are disabled by default")
+    void testEventsDisabledByDefault() throws IOException {
+        Obfuscator obfuscator = new FlightRecorderObfuscatorDecorator().decorate(Obfuscator.fixedLength(3), "FIXED_LENGTH");
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.start();
+
+            assertEquals("***", obfuscator.obfuscateText("hello").toString());
+
+            recording.stop();
+            events = recordedEvents(recording);
+        }
+
+        assertEquals(List.of(), events);
+    }
+
+    private List<RecordedEvent> recordedEvents(Recording recording) throws IOException {
+        Path file = Files.createTempFile(tempDir, "recording", ".jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().startsWith("com.github.robtimus.obfuscation."))
+                .toList();
+    }
+}
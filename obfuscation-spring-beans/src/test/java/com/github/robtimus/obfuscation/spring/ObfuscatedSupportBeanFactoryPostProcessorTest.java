@@ -19,7 +19,7 @@ package com.github.robtimus.obfuscation.spring;
 
 import static com.github.robtimus.obfuscation.Obfuscator.fixedValue;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import java.time.Clock;
@@ -29,6 +29,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -48,6 +49,7 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import com.github.robtimus.obfuscation.Obfuscated;
 import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.annotation.CharacterRepresentationProvider;
 import com.github.robtimus.obfuscation.annotation.ObfuscateUsing;
 import com.github.robtimus.obfuscation.annotation.RepresentedBy;
 
@@ -179,6 +181,56 @@ class ObfuscatedSupportBeanFactoryPostProcessorTest {
                 assertEquals(expectedDate.toString(), bean.obfuscatedDate.toString());
             }
         }
+
+        @Nested
+        @DisplayName("with equally represented obfuscated fields")
+        @ExtendWith(SpringExtension.class)
+        @ContextConfiguration(classes = { ProcessorProvider.class, BeanWithEquallyRepresentedObfuscatedFields.class })
+        class WithEquallyRepresentedObfuscatedFields {
+
+            @Autowired
+            private ApplicationContext context;
+
+            @Test
+            @DisplayName("autowiring")
+            void testAutowiring() {
+                BeanWithEquallyRepresentedObfuscatedFields bean = context.getBean(BeanWithEquallyRepresentedObfuscatedFields.class);
+
+                Obfuscator obfuscator = ObfuscatorSupport.DEFAULT_OBFUSCATOR;
+                String expected = obfuscator.obfuscateText(CountingCharacterRepresentationProvider.VALUE).toString();
+
+                assertEquals(expected, bean.obfuscatedString.toString());
+                assertEquals(expected, bean.otherObfuscatedString.toString());
+                assertEquals(1, CountingCharacterRepresentationProvider.INSTANCE_COUNT.get());
+            }
+        }
+
+        @Nested
+        @DisplayName("with lazy resolution")
+        @ExtendWith(SpringExtension.class)
+        @ContextConfiguration(classes = { LazyProcessorProvider.class, LazyGreeterProvider.class, BeanWithAutowiredLazyObfuscatedFields.class })
+        class WithLazyResolution {
+
+            @Autowired
+            private ApplicationContext context;
+
+            @Test
+            @DisplayName("autowiring")
+            void testAutowiring() {
+                BeanWithAutowiredLazyObfuscatedFields bean = context.getBean(BeanWithAutowiredLazyObfuscatedFields.class);
+
+                Obfuscator obfuscator = ObfuscatorSupport.DEFAULT_OBFUSCATOR;
+
+                assertEquals(obfuscator.obfuscateObject(VALUE), bean.obfuscatedString);
+                assertEquals(0, CountingGreeter.INSTANCE_COUNT.get());
+
+                assertEquals("Hello world", bean.obfuscatedGreeter.value().greet("world"));
+                assertEquals(1, CountingGreeter.INSTANCE_COUNT.get());
+
+                assertEquals(obfuscator.obfuscateText(CountingGreeter.class.getName()).toString(), bean.obfuscatedGreeter.toString());
+                assertEquals(1, CountingGreeter.INSTANCE_COUNT.get());
+            }
+        }
     }
 
     @Nested
@@ -463,7 +515,7 @@ class ObfuscatedSupportBeanFactoryPostProcessorTest {
                 DefaultListableBeanFactory listableBeanFactory = (DefaultListableBeanFactory) beanFactory;
                 AutowireCandidateResolver resolver = listableBeanFactory.getAutowireCandidateResolver();
 
-                assertThat(resolver.getClass().getName(), startsWith(ObfuscatedSupportBeanFactoryPostProcessor.class.getName()));
+                assertThat(resolver, instanceOf(ObfuscationAutowireCandidateResolver.class));
 
                 listableBeanFactory.setAutowireCandidateResolver(new AutowireCandidateResolver() {
 
@@ -507,6 +559,27 @@ class ObfuscatedSupportBeanFactoryPostProcessorTest {
         }
     }
 
+    @Configuration
+    static class LazyProcessorProvider {
+
+        @Bean
+        static ObfuscatedSupportBeanFactoryPostProcessor postProcessor() {
+            ObfuscatedSupportBeanFactoryPostProcessor postProcessor = new ObfuscatedSupportBeanFactoryPostProcessor();
+            postProcessor.setLazy(true);
+            return postProcessor;
+        }
+    }
+
+    @Configuration
+    static class LazyGreeterProvider {
+
+        @Bean
+        @Lazy
+        Greeter greeter() {
+            return new CountingGreeter();
+        }
+    }
+
     @Configuration
     static class LocalDateProvider {
 
@@ -566,6 +639,69 @@ class ObfuscatedSupportBeanFactoryPostProcessorTest {
         private Obfuscated<Date> obfuscatedDate;
     }
 
+    static class BeanWithAutowiredLazyObfuscatedFields {
+
+        @Autowired
+        @Value(VALUE)
+        private Obfuscated<String> obfuscatedString;
+
+        @Autowired
+        private Obfuscated<Greeter> obfuscatedGreeter;
+    }
+
+    interface Greeter {
+
+        String greet(String name);
+    }
+
+    static class CountingGreeter implements Greeter {
+
+        static final AtomicInteger INSTANCE_COUNT = new AtomicInteger();
+
+        CountingGreeter() {
+            INSTANCE_COUNT.incrementAndGet();
+        }
+
+        @Override
+        public String greet(String name) {
+            return "Hello " + name;
+        }
+
+        @Override
+        public String toString() {
+            return CountingGreeter.class.getName();
+        }
+    }
+
+    static class BeanWithEquallyRepresentedObfuscatedFields {
+
+        @Autowired
+        @RepresentedBy(CountingCharacterRepresentationProvider.class)
+        @Value(VALUE)
+        private Obfuscated<String> obfuscatedString;
+
+        @Autowired
+        @RepresentedBy(CountingCharacterRepresentationProvider.class)
+        @Value(VALUE)
+        private Obfuscated<String> otherObfuscatedString;
+    }
+
+    static class CountingCharacterRepresentationProvider implements CharacterRepresentationProvider {
+
+        static final String VALUE = "<counted>";
+
+        static final AtomicInteger INSTANCE_COUNT = new AtomicInteger();
+
+        CountingCharacterRepresentationProvider() {
+            INSTANCE_COUNT.incrementAndGet();
+        }
+
+        @Override
+        public CharSequence toCharSequence(Object value) {
+            return VALUE;
+        }
+    }
+
     static class BeanWithObfuscatedConstructorArgument {
 
         private final Obfuscated<String> obfuscatedString;
@@ -0,0 +1,129 @@
+/*
+ * ObfuscatedTypeConverterTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.TypeConverter;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.MethodParameter;
+import com.github.robtimus.obfuscation.Obfuscated;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.annotation.ObfuscateFixedValue;
+
+@SuppressWarnings("nls")
+class ObfuscatedTypeConverterTest {
+
+    @Test
+    @DisplayName("convertIfNecessary without required type")
+    void testConvertWithoutRequiredType() {
+        TypeConverter typeConverter = typeConverter();
+
+        Object value = new Object();
+
+        assertSame(value, typeConverter.convertIfNecessary(value, null));
+        assertSame(value, typeConverter.convertIfNecessary(value, null, (Field) null));
+        assertSame(value, typeConverter.convertIfNecessary(value, null, (MethodParameter) null));
+    }
+
+    @Test
+    @DisplayName("convertIfNecessary with field")
+    void testConvertWithField() throws ReflectiveOperationException {
+        TypeConverter typeConverter = typeConverter();
+
+        Field field = ObfuscatedHolder.class.getDeclaredField("obfuscated");
+        Obfuscated<Integer> expected = Obfuscator.fixedValue("<fixed>").obfuscateObject(12345);
+
+        // the second conversion uses the cached generic type
+        assertEquals(expected, typeConverter.convertIfNecessary("12345", Obfuscated.class, field));
+        assertEquals(expected, typeConverter.convertIfNecessary("12345", Obfuscated.class, field));
+    }
+
+    @Test
+    @DisplayName("convertIfNecessary with method parameter")
+    void testConvertWithMethodParameter() throws ReflectiveOperationException {
+        TypeConverter typeConverter = typeConverter();
+
+        Method method = ObfuscatedHolder.class.getDeclaredMethod("setObfuscated", Obfuscated.class);
+        Obfuscated<Integer> expected = Obfuscator.fixedValue("<fixed>").obfuscateObject(12345);
+
+        // the second conversion uses the cached generic type
+        assertEquals(expected, typeConverter.convertIfNecessary("12345", Obfuscated.class, new MethodParameter(method, 0)));
+        assertEquals(expected, typeConverter.convertIfNecessary("12345", Obfuscated.class, new MethodParameter(method, 0)));
+    }
+
+    @Test
+    @DisplayName("convertIfNecessary without interned values")
+    void testConvertWithoutInternedValues() throws ReflectiveOperationException {
+        TypeConverter typeConverter = typeConverter();
+
+        Field field = ObfuscatedHolder.class.getDeclaredField("obfuscated");
+
+        Object obfuscated = typeConverter.convertIfNecessary("12345", Obfuscated.class, field);
+
+        assertNotSame(obfuscated, typeConverter.convertIfNecessary("12345", Obfuscated.class, field));
+    }
+
+    @Test
+    @DisplayName("convertIfNecessary with interned values")
+    void testConvertWithInternedValues() throws ReflectiveOperationException {
+        TypeConverter typeConverter = typeConverter(true);
+
+        Field field = ObfuscatedHolder.class.getDeclaredField("obfuscated");
+        Method method = ObfuscatedHolder.class.getDeclaredMethod("setObfuscated", Obfuscated.class);
+        Method otherMethod = ObfuscatedHolder.class.getDeclaredMethod("setOtherObfuscated", Obfuscated.class);
+
+        Object obfuscated = typeConverter.convertIfNecessary("12345", Obfuscated.class, field);
+
+        assertSame(obfuscated, typeConverter.convertIfNecessary("12345", Obfuscated.class, field));
+        assertSame(obfuscated, typeConverter.convertIfNecessary("12345", Obfuscated.class, new MethodParameter(method, 0)));
+        assertNotSame(obfuscated, typeConverter.convertIfNecessary("54321", Obfuscated.class, field));
+        assertNotSame(obfuscated, typeConverter.convertIfNecessary("12345", Obfuscated.class, new MethodParameter(otherMethod, 0)));
+    }
+
+    private TypeConverter typeConverter() {
+        return typeConverter(false);
+    }
+
+    private TypeConverter typeConverter(boolean internValues) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        ObfuscatedSupportBeanFactoryPostProcessor postProcessor = new ObfuscatedSupportBeanFactoryPostProcessor();
+        postProcessor.setInternValues(internValues);
+        postProcessor.postProcessBeanFactory(beanFactory);
+        return beanFactory.getTypeConverter();
+    }
+
+    static class ObfuscatedHolder {
+
+        @ObfuscateFixedValue("<fixed>")
+        private Obfuscated<Integer> obfuscated;
+
+        void setObfuscated(@ObfuscateFixedValue("<fixed>") Obfuscated<Integer> obfuscated) {
+            this.obfuscated = obfuscated;
+        }
+
+        void setOtherObfuscated(@ObfuscateFixedValue("<other>") Obfuscated<Integer> obfuscated) {
+            this.obfuscated = obfuscated;
+        }
+    }
+}
@@ -0,0 +1,450 @@
+/*
+ * ObfuscationAutowireCandidateResolverTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.support.AutowireCandidateResolver;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import com.github.robtimus.obfuscation.Obfuscated;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.annotation.ObfuscateFixedValue;
+import com.github.robtimus.obfuscation.annotation.ObfuscateUsing;
+import com.github.robtimus.obfuscation.annotation.ObfuscatorProvider;
+
+@SuppressWarnings("nls")
+class ObfuscationAutowireCandidateResolverTest {
+
+    @Test
+    @DisplayName("both post processors share one resolver")
+    void testSharedResolver() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        AutowireCandidateResolver originalResolver = beanFactory.getAutowireCandidateResolver();
+
+        new ObfuscatorSupportBeanFactoryPostProcessor().postProcessBeanFactory(beanFactory);
+        AutowireCandidateResolver resolver = beanFactory.getAutowireCandidateResolver();
+
+        assertThat(resolver, instanceOf(ObfuscationAutowireCandidateResolver.class));
+
+        new ObfuscatedSupportBeanFactoryPostProcessor().postProcessBeanFactory(beanFactory);
+
+        assertSame(resolver, beanFactory.getAutowireCandidateResolver());
+        assertNotSame(originalResolver, resolver);
+
+        beanFactory.registerSingleton("value", "value");
+        RootBeanDefinition beanDefinition = new RootBeanDefinition(BeanWithObfuscatorAndObfuscated.class);
+        beanDefinition.setAutowireMode(AutowireCapableBeanFactory.AUTOWIRE_CONSTRUCTOR);
+        beanFactory.registerBeanDefinition("bean", beanDefinition);
+
+        BeanWithObfuscatorAndObfuscated bean = beanFactory.getBean(BeanWithObfuscatorAndObfuscated.class);
+
+        Obfuscator expected = Obfuscator.fixedValue("<fixed>");
+
+        assertEquals(expected, bean.obfuscator);
+        assertEquals(expected.obfuscateObject("value"), bean.obfuscated);
+    }
+
+    @Test
+    @DisplayName("the resolver and type converter share their caches")
+    void testSharedCaches() throws ReflectiveOperationException {
+        CreatingObfuscatorProvider.INSTANCE_COUNT.set(0);
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+        new ObfuscatorSupportBeanFactoryPostProcessor().postProcessBeanFactory(beanFactory);
+        new ObfuscatedSupportBeanFactoryPostProcessor().postProcessBeanFactory(beanFactory);
+
+        ObfuscatorSupport resolver = (ObfuscatorSupport) beanFactory.getAutowireCandidateResolver();
+        ObfuscatorSupport typeConverter = (ObfuscatorSupport) beanFactory.getTypeConverter();
+
+        Annotation[] annotations = BeanWithProvidedObfuscator.class.getDeclaredConstructor(Obfuscator.class).getParameterAnnotations()[0];
+
+        Obfuscator obfuscator = resolver.obfuscator(annotations);
+
+        assertSame(obfuscator, typeConverter.obfuscator(annotations));
+        assertEquals(1, CreatingObfuscatorProvider.INSTANCE_COUNT.get());
+    }
+
+    @Test
+    @DisplayName("resolution is recorded as application startup steps")
+    @SuppressWarnings("unchecked")
+    void testApplicationStartupSteps() {
+        StartupStep step = mock(StartupStep.class, RETURNS_SELF);
+        ApplicationStartup applicationStartup = mock(ApplicationStartup.class);
+        doReturn(step).when(applicationStartup).start(anyString());
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.setApplicationStartup(applicationStartup);
+
+        new ObfuscatorSupportBeanFactoryPostProcessor().postProcessBeanFactory(beanFactory);
+        new ObfuscatedSupportBeanFactoryPostProcessor().postProcessBeanFactory(beanFactory);
+
+        beanFactory.registerSingleton("value", "value");
+        RootBeanDefinition beanDefinition = new RootBeanDefinition(BeanWithObfuscatorAndObfuscated.class);
+        beanDefinition.setAutowireMode(AutowireCapableBeanFactory.AUTOWIRE_CONSTRUCTOR);
+        beanFactory.registerBeanDefinition("bean", beanDefinition);
+
+        beanFactory.getBean(BeanWithObfuscatorAndObfuscated.class);
+
+        verify(applicationStartup, times(2)).start(ObfuscatorSupport.RESOLVE_OBFUSCATOR_STEP);
+        verify(applicationStartup, times(1)).start(ObfuscatorSupport.OBFUSCATE_VALUE_STEP);
+        verify(step, atLeastOnce()).tag(eq("injectionPoint"), any(Supplier.class));
+        verify(step, times(2)).tag(eq("annotationType"), any(Supplier.class));
+        verify(step).tag(eq("type"), any(Supplier.class));
+        verify(step).tag(eq("characterRepresentationProvider"), any(Supplier.class));
+    }
+
+    @Test
+    @DisplayName("obfuscators are decorated")
+    void testObfuscatorDecorators() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+        new ObfuscatorSupportBeanFactoryPostProcessor().postProcessBeanFactory(beanFactory);
+        new ObfuscatedSupportBeanFactoryPostProcessor().postProcessBeanFactory(beanFactory);
+
+        List<String> names = new ArrayList<>();
+        Obfuscator decorated = Obfuscator.fixedValue("<decorated>");
+        ObfuscatorDecorator decorator = (obfuscator, name) -> {
+            names.add(name);
+            return decorated;
+        };
+        beanFactory.registerSingleton("decorator", decorator);
+
+        beanFactory.registerSingleton("value", "value");
+        RootBeanDefinition beanDefinition = new RootBeanDefinition(BeanWithObfuscatorAndObfuscated.class);
+        beanDefinition.setAutowireMode(AutowireCapableBeanFactory.AUTOWIRE_CONSTRUCTOR);
+        beanFactory.registerBeanDefinition("bean", beanDefinition);
+
+        BeanWithObfuscatorAndObfuscated bean = beanFactory.getBean(BeanWithObfuscatorAndObfuscated.class);
+
+        assertSame(decorated, bean.obfuscator);
+        assertEquals(decorated.obfuscateObject("value"), bean.obfuscated);
+        assertThat(names, everyItem(is("FIXED_VALUE")));
+    }
+
+    @Test
+    @DisplayName("resolution is recorded as flight recorder events")
+    void testFlightRecorderEvents() throws IOException {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+        new ObfuscatorSupportBeanFactoryPostProcessor().postProcessBeanFactory(beanFactory);
+        new ObfuscatedSupportBeanFactoryPostProcessor().postProcessBeanFactory(beanFactory);
+
+        beanFactory.registerSingleton("value", "value");
+        RootBeanDefinition beanDefinition = new RootBeanDefinition(BeanWithObfuscatorAndObfuscated.class);
+        beanDefinition.setAutowireMode(AutowireCapableBeanFactory.AUTOWIRE_CONSTRUCTOR);
+        beanFactory.registerBeanDefinition("bean", beanDefinition);
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(ObfuscatorResolutionEvent.class);
+            recording.start();
+
+            beanFactory.getBean(BeanWithObfuscatorAndObfuscated.class);
+
+            recording.stop();
+
+            Path file = Files.createTempFile("recording", ".jfr");
+            try {
+                recording.dump(file);
+                events = RecordingFile.readAllEvents(file).stream()
+                        .filter(e -> e.getEventType().getName().equals("com.github.robtimus.obfuscation.spring.ObfuscatorResolution"))
+                        .toList();
+            } finally {
+                Files.delete(file);
+            }
+        }
+
+        assertThat(events, not(empty()));
+        assertThat(events.stream().map(e -> e.getString("mode")).toList(), everyItem(is("FIXED_VALUE")));
+        assertThat(events.stream().map(e -> e.getString("injectionPoint")).toList(), everyItem(containsString("BeanWithObfuscatorAndObfuscated")));
+    }
+
+    @Test
+    @DisplayName("named obfuscators are resolved from the registry")
+    void testNamedObfuscators() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+        ObfuscatorSupportBeanFactoryPostProcessor postProcessor = new ObfuscatorSupportBeanFactoryPostProcessor();
+        postProcessor.setQualifiedObfuscators(true);
+        postProcessor.postProcessBeanFactory(beanFactory);
+        new ObfuscatedSupportBeanFactoryPostProcessor().postProcessBeanFactory(beanFactory);
+
+        Obfuscator named = Obfuscator.fixedValue("<named>");
+        beanFactory.registerSingleton("registry", ObfuscatorRegistry.of(Map.of("named", named)));
+
+        beanFactory.registerSingleton("value", "value");
+        RootBeanDefinition beanDefinition = new RootBeanDefinition(BeanWithNamedObfuscators.class);
+        beanDefinition.setAutowireMode(AutowireCapableBeanFactory.AUTOWIRE_CONSTRUCTOR);
+        beanFactory.registerBeanDefinition("bean", beanDefinition);
+
+        BeanWithNamedObfuscators bean = beanFactory.getBean(BeanWithNamedObfuscators.class);
+
+        assertSame(named, bean.obfuscator);
+        assertSame(named, bean.qualifiedObfuscator);
+        assertEquals(ObfuscatorSupport.DEFAULT_OBFUSCATOR, bean.unknownQualifiedObfuscator);
+        assertEquals(named.obfuscateObject("value"), bean.obfuscated);
+    }
+
+    @Test
+    @DisplayName("qualifiers are not resolved from the registry by default")
+    void testQualifiedObfuscatorsNotEnabled() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+        new ObfuscatorSupportBeanFactoryPostProcessor().postProcessBeanFactory(beanFactory);
+        new ObfuscatedSupportBeanFactoryPostProcessor().postProcessBeanFactory(beanFactory);
+
+        Obfuscator named = Obfuscator.fixedValue("<named>");
+        beanFactory.registerSingleton("registry", ObfuscatorRegistry.of(Map.of("named", named)));
+
+        beanFactory.registerSingleton("value", "value");
+        RootBeanDefinition beanDefinition = new RootBeanDefinition(BeanWithNamedObfuscators.class);
+        beanDefinition.setAutowireMode(AutowireCapableBeanFactory.AUTOWIRE_CONSTRUCTOR);
+        beanFactory.registerBeanDefinition("bean", beanDefinition);
+
+        BeanWithNamedObfuscators bean = beanFactory.getBean(BeanWithNamedObfuscators.class);
+
+        assertSame(named, bean.obfuscator);
+        assertEquals(ObfuscatorSupport.DEFAULT_OBFUSCATOR, bean.qualifiedObfuscator);
+        assertEquals(ObfuscatorSupport.DEFAULT_OBFUSCATOR, bean.unknownQualifiedObfuscator);
+    }
+
+    @Test
+    @DisplayName("named obfuscators that are not registered")
+    void testUnknownNamedObfuscator() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+        new ObfuscatorSupportBeanFactoryPostProcessor().postProcessBeanFactory(beanFactory);
+
+        beanFactory.registerSingleton("registry", ObfuscatorRegistry.of(Map.of("named", Obfuscator.all())));
+
+        RootBeanDefinition beanDefinition = new RootBeanDefinition(BeanWithUnknownNamedObfuscator.class);
+        beanDefinition.setAutowireMode(AutowireCapableBeanFactory.AUTOWIRE_CONSTRUCTOR);
+        beanFactory.registerBeanDefinition("bean", beanDefinition);
+
+        BeanCreationException exception = assertThrows(BeanCreationException.class,
+                () -> beanFactory.getBean(BeanWithUnknownNamedObfuscator.class));
+        assertThat(exception.getMostSpecificCause(), instanceOf(IllegalStateException.class));
+        assertThat(exception.getMostSpecificCause().getMessage(), containsString("unknown"));
+    }
+
+    @Test
+    @DisplayName("obfuscators are resolved by the parent bean factory")
+    void testParentBeanFactory() {
+        DefaultListableBeanFactory parentBeanFactory = beanFactoryWithProvidedObfuscator(null);
+        DefaultListableBeanFactory beanFactory = beanFactoryWithProvidedObfuscator(parentBeanFactory);
+
+        BeanWithProvidedObfuscator parentBean = parentBeanFactory.getBean(BeanWithProvidedObfuscator.class);
+        BeanWithProvidedObfuscator bean = beanFactory.getBean(BeanWithProvidedObfuscator.class);
+
+        assertSame(parentBean.obfuscator, bean.obfuscator);
+        assertEquals(1, CreatingObfuscatorProvider.INSTANCE_COUNT.get());
+    }
+
+    @Test
+    @DisplayName("obfuscators are not resolved by the parent bean factory if the bean factory defines its own obfuscators")
+    void testParentBeanFactoryWithOverriddenObfuscator() {
+        DefaultListableBeanFactory parentBeanFactory = beanFactoryWithProvidedObfuscator(null);
+        DefaultListableBeanFactory beanFactory = beanFactoryWithProvidedObfuscator(parentBeanFactory);
+        beanFactory.registerSingleton("obfuscator", Obfuscator.none());
+
+        BeanWithProvidedObfuscator parentBean = parentBeanFactory.getBean(BeanWithProvidedObfuscator.class);
+        BeanWithProvidedObfuscator bean = beanFactory.getBean(BeanWithProvidedObfuscator.class);
+
+        assertNotSame(parentBean.obfuscator, bean.obfuscator);
+        assertEquals(parentBean.obfuscator, bean.obfuscator);
+        assertEquals(2, CreatingObfuscatorProvider.INSTANCE_COUNT.get());
+    }
+
+    @Test
+    @DisplayName("obfuscators are resolved by the bean factory itself if the parent bean factory cannot resolve them")
+    void testParentBeanFactoryWithChildOnlyDependency() {
+        DefaultListableBeanFactory parentBeanFactory = beanFactoryWithDependentObfuscator(null);
+        parentBeanFactory.freezeConfiguration();
+
+        DefaultListableBeanFactory beanFactory = beanFactoryWithDependentObfuscator(parentBeanFactory);
+        // The provider's dependency is only defined in the child bean factory
+        beanFactory.registerBeanDefinition("dependency", new RootBeanDefinition(ProviderDependency.class));
+
+        RootBeanDefinition beanDefinition = new RootBeanDefinition(BeanWithDependentObfuscator.class);
+        beanDefinition.setAutowireMode(AutowireCapableBeanFactory.AUTOWIRE_CONSTRUCTOR);
+        beanFactory.registerBeanDefinition("bean", beanDefinition);
+        beanFactory.freezeConfiguration();
+
+        BeanWithDependentObfuscator bean = beanFactory.getBean(BeanWithDependentObfuscator.class);
+
+        assertEquals("<dependent>", bean.obfuscator.obfuscateText("foo").toString());
+    }
+
+    private DefaultListableBeanFactory beanFactoryWithDependentObfuscator(DefaultListableBeanFactory parentBeanFactory) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory(parentBeanFactory);
+
+        AutowiredAnnotationBeanPostProcessor autowiredAnnotationBeanPostProcessor = new AutowiredAnnotationBeanPostProcessor();
+        autowiredAnnotationBeanPostProcessor.setBeanFactory(beanFactory);
+        beanFactory.addBeanPostProcessor(autowiredAnnotationBeanPostProcessor);
+
+        new ObfuscatorSupportBeanFactoryPostProcessor().postProcessBeanFactory(beanFactory);
+
+        return beanFactory;
+    }
+
+    private DefaultListableBeanFactory beanFactoryWithProvidedObfuscator(DefaultListableBeanFactory parentBeanFactory) {
+        CreatingObfuscatorProvider.INSTANCE_COUNT.set(0);
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory(parentBeanFactory);
+
+        new ObfuscatorSupportBeanFactoryPostProcessor().postProcessBeanFactory(beanFactory);
+
+        RootBeanDefinition beanDefinition = new RootBeanDefinition(BeanWithProvidedObfuscator.class);
+        beanDefinition.setAutowireMode(AutowireCapableBeanFactory.AUTOWIRE_CONSTRUCTOR);
+        beanFactory.registerBeanDefinition("bean", beanDefinition);
+
+        beanFactory.freezeConfiguration();
+        return beanFactory;
+    }
+
+    static class BeanWithObfuscatorAndObfuscated {
+
+        private final Obfuscator obfuscator;
+        private final Obfuscated<String> obfuscated;
+
+        BeanWithObfuscatorAndObfuscated(@ObfuscateFixedValue("<fixed>") Obfuscator obfuscator,
+                @ObfuscateFixedValue("<fixed>") Obfuscated<String> obfuscated) {
+
+            this.obfuscator = obfuscator;
+            this.obfuscated = obfuscated;
+        }
+    }
+
+    static class BeanWithNamedObfuscators {
+
+        private final Obfuscator obfuscator;
+        private final Obfuscator qualifiedObfuscator;
+        private final Obfuscator unknownQualifiedObfuscator;
+        private final Obfuscated<String> obfuscated;
+
+        BeanWithNamedObfuscators(@NamedObfuscator("named") @ObfuscateFixedValue("<fixed>") Obfuscator obfuscator,
+                @Qualifier("named") Obfuscator qualifiedObfuscator,
+                @Qualifier("unknown") Obfuscator unknownQualifiedObfuscator,
+                @NamedObfuscator("named") Obfuscated<String> obfuscated) {
+
+            this.obfuscator = obfuscator;
+            this.qualifiedObfuscator = qualifiedObfuscator;
+            this.unknownQualifiedObfuscator = unknownQualifiedObfuscator;
+            this.obfuscated = obfuscated;
+        }
+    }
+
+    static class BeanWithUnknownNamedObfuscator {
+
+        BeanWithUnknownNamedObfuscator(@NamedObfuscator("unknown") Obfuscator obfuscator) {
+            // the obfuscator is not needed
+        }
+    }
+
+    static class BeanWithProvidedObfuscator {
+
+        private final Obfuscator obfuscator;
+
+        BeanWithProvidedObfuscator(@ObfuscateUsing(CreatingObfuscatorProvider.class) Obfuscator obfuscator) {
+            this.obfuscator = obfuscator;
+        }
+    }
+
+    static class BeanWithDependentObfuscator {
+
+        private final Obfuscator obfuscator;
+
+        BeanWithDependentObfuscator(@ObfuscateUsing(DependentObfuscatorProvider.class) Obfuscator obfuscator) {
+            this.obfuscator = obfuscator;
+        }
+    }
+
+    static class ProviderDependency {
+
+        private final Obfuscator obfuscator = Obfuscator.fixedValue("<dependent>");
+    }
+
+    static class DependentObfuscatorProvider implements ObfuscatorProvider {
+
+        private final ProviderDependency dependency;
+
+        DependentObfuscatorProvider(ProviderDependency dependency) {
+            this.dependency = dependency;
+        }
+
+        @Override
+        public Obfuscator obfuscator() {
+            return dependency.obfuscator;
+        }
+    }
+
+    static class CreatingObfuscatorProvider implements ObfuscatorProvider {
+
+        private static final AtomicInteger INSTANCE_COUNT = new AtomicInteger();
+
+        CreatingObfuscatorProvider() {
+            INSTANCE_COUNT.incrementAndGet();
+        }
+
+        @Override
+        public Obfuscator obfuscator() {
+            // Return a new instance for each call, so shared obfuscators can be detected
+            return Obfuscator.fixedValue("<created>");
+        }
+    }
+}
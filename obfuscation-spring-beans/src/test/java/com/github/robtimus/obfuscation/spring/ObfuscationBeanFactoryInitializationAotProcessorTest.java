@@ -0,0 +1,229 @@
+/*
+ * ObfuscationBeanFactoryInitializationAotProcessorTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedClass;
+import org.springframework.aot.generate.GeneratedFiles.Kind;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.generate.MethodReference;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.javapoet.ClassName;
+import com.github.robtimus.obfuscation.Obfuscated;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.annotation.ObfuscateAll;
+import com.github.robtimus.obfuscation.annotation.ObfuscateFixedLength;
+import com.github.robtimus.obfuscation.annotation.ObfuscateFixedValue;
+import com.github.robtimus.obfuscation.annotation.ObfuscateNone;
+import com.github.robtimus.obfuscation.annotation.ObfuscatePortion;
+import com.github.robtimus.obfuscation.annotation.ObfuscateUsing;
+
+@SuppressWarnings("nls")
+class ObfuscationBeanFactoryInitializationAotProcessorTest {
+
+    @Test
+    @DisplayName("obfuscators are generated as code")
+    void testGeneratedCode() throws IOException {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("bean", new RootBeanDefinition(BeanWithPureValueObfuscators.class));
+
+        BeanFactoryInitializationAotContribution contribution = new ObfuscationBeanFactoryInitializationAotProcessor()
+                .processAheadOfTime(beanFactory);
+        assertNotNull(contribution);
+
+        InMemoryGeneratedFiles generatedFiles = new InMemoryGeneratedFiles();
+        DefaultGenerationContext generationContext = new DefaultGenerationContext(
+                new ClassNameGenerator(ClassName.get("com.example", "Application")), generatedFiles);
+        GeneratedClass generatedClass = generationContext.getGeneratedClasses().addForFeature("Test", type -> { /* no changes */ });
+
+        BeanFactoryInitializationCode beanFactoryInitializationCode = mock(BeanFactoryInitializationCode.class);
+        doReturn(generatedClass.getMethods()).when(beanFactoryInitializationCode).getMethods();
+
+        contribution.applyTo(generationContext, beanFactoryInitializationCode);
+        generationContext.writeGeneratedContent();
+
+        verify(beanFactoryInitializationCode).addInitializer(any(MethodReference.class));
+
+        String path = generatedClass.getName().reflectionName().replace('.', '/') + ".java";
+        String source = generatedFiles.getGeneratedFileContent(Kind.SOURCE, path);
+        assertNotNull(source);
+
+        String beanClassName = BeanWithPureValueObfuscators.class.getName();
+
+        assertThat(source, containsString("PrecomputedObfuscators.register(beanFactory)"));
+        assertThat(source, containsString("Obfuscator.all((char) 42)"));
+        assertThat(source, containsString("Obfuscator.none()"));
+        assertThat(source, containsString("Obfuscator.fixedLength(8, (char) 35)"));
+        assertThat(source, containsString("Obfuscator.fixedValue(\"<fixed>\")"));
+        assertThat(source, containsString("Obfuscator.portion().keepAtStart(2).keepAtEnd(3).atLeastFromStart(0).atLeastFromEnd(0)"
+                + ".withFixedTotalLength(-1).withMaskChar((char) 42).build()"));
+        // Injection points with equal annotations share the same obfuscator
+        assertThat(source, containsString("\"" + beanClassName + "#fixedLength\",\n"));
+        assertThat(source, containsString("\"" + beanClassName + "#<init>(" + Obfuscator.class.getName() + ")[0]\""));
+        assertThat(source, containsString("\"" + beanClassName + "#setObfuscated(" + Obfuscated.class.getName() + ")[0]\""));
+        // Obfuscators that are created by providers or that are named are not generated as code
+        assertThat(source, not(containsString("ObfuscateUsing")));
+        assertThat(source, not(containsString("#provided")));
+        assertThat(source, not(containsString("#qualified")));
+        // Fields and methods that are not injected are ignored
+        assertThat(source, not(containsString("#notInjected")));
+        assertThat(source, not(containsString("<not injected>")));
+    }
+
+    @Test
+    @DisplayName("bean factory without obfuscators that can be computed ahead of time")
+    void testWithoutPureValueObfuscators() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("bean", new RootBeanDefinition(BeanWithoutPureValueObfuscators.class));
+
+        assertNull(new ObfuscationBeanFactoryInitializationAotProcessor().processAheadOfTime(beanFactory));
+    }
+
+    @Test
+    @DisplayName("precomputed obfuscators are used and decorated")
+    void testPrecomputedObfuscators() throws ReflectiveOperationException {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+        Constructor<?> constructor = BeanWithPrecomputedObfuscator.class.getDeclaredConstructor(Obfuscator.class);
+        Field field = BeanWithPrecomputedObfuscator.class.getDeclaredField("fieldObfuscator");
+        Obfuscator precomputed = Obfuscator.fixedValue("<precomputed>");
+        PrecomputedObfuscators.register(beanFactory)
+                .add(ObfuscateFixedValue.class, precomputed, PrecomputedObfuscators.injectionPoint(constructor, 0),
+                        PrecomputedObfuscators.injectionPoint(field),
+                        // Unknown injection points are ignored
+                        BeanWithPrecomputedObfuscator.class.getName() + "#unknown",
+                        "com.example.Unknown#<init>(" + Obfuscator.class.getName() + ")[0]");
+
+        List<String> names = new ArrayList<>();
+        Obfuscator decorated = Obfuscator.fixedValue("<decorated>");
+        beanFactory.registerSingleton("decorator", (ObfuscatorDecorator) (obfuscator, name) -> {
+            assertSame(precomputed, obfuscator);
+            names.add(name);
+            return decorated;
+        });
+
+        new ObfuscatorSupportBeanFactoryPostProcessor().postProcessBeanFactory(beanFactory);
+
+        AutowiredAnnotationBeanPostProcessor autowiredAnnotationBeanPostProcessor = new AutowiredAnnotationBeanPostProcessor();
+        autowiredAnnotationBeanPostProcessor.setBeanFactory(beanFactory);
+        beanFactory.addBeanPostProcessor(autowiredAnnotationBeanPostProcessor);
+
+        RootBeanDefinition beanDefinition = new RootBeanDefinition(BeanWithPrecomputedObfuscator.class);
+        beanDefinition.setAutowireMode(AutowireCapableBeanFactory.AUTOWIRE_CONSTRUCTOR);
+        beanFactory.registerBeanDefinition("bean", beanDefinition);
+
+        BeanWithPrecomputedObfuscator bean = beanFactory.getBean(BeanWithPrecomputedObfuscator.class);
+
+        assertSame(decorated, bean.obfuscator);
+        assertSame(decorated, bean.fieldObfuscator);
+        // The injection points share the precomputed obfuscator, so it's decorated only once
+        assertEquals(List.of("FIXED_VALUE"), names);
+    }
+
+    static class BeanWithPureValueObfuscators {
+
+        @Autowired
+        @ObfuscateFixedLength(value = 8, maskChar = '#')
+        private Obfuscator fixedLength;
+
+        @Autowired
+        @ObfuscateAll
+        private Obfuscator all;
+
+        @Value("none")
+        @ObfuscateNone
+        private Obfuscated<String> none;
+
+        @Autowired
+        @ObfuscatePortion(keepAtStart = 2, keepAtEnd = 3)
+        private Obfuscator portion;
+
+        @Autowired
+        @ObfuscateUsing(TestObfuscatorProvider.class)
+        private Obfuscator provided;
+
+        @Autowired
+        @ObfuscateAll
+        @Qualifier("named")
+        private Obfuscator qualified;
+
+        @ObfuscateAll
+        private Obfuscator notInjected;
+
+        BeanWithPureValueObfuscators(@ObfuscateFixedLength(value = 8, maskChar = '#') Obfuscator obfuscator) {
+            // the obfuscator is not needed
+        }
+
+        @Autowired
+        void setObfuscated(@ObfuscateFixedValue("<fixed>") Obfuscated<String> obfuscated) {
+            // the obfuscated value is not needed
+        }
+
+        void setNotInjected(@ObfuscateFixedValue("<not injected>") Obfuscator obfuscator) {
+            // the obfuscator is not needed
+        }
+    }
+
+    static class BeanWithoutPureValueObfuscators {
+
+        @ObfuscateUsing(TestObfuscatorProvider.class)
+        private Obfuscator provided;
+
+        private Obfuscator notAnnotated;
+    }
+
+    static class BeanWithPrecomputedObfuscator {
+
+        private final Obfuscator obfuscator;
+
+        @Autowired
+        @ObfuscateFixedValue("<fixed>")
+        private Obfuscator fieldObfuscator;
+
+        BeanWithPrecomputedObfuscator(@ObfuscateFixedValue("<fixed>") Obfuscator obfuscator) {
+            this.obfuscator = obfuscator;
+        }
+    }
+}
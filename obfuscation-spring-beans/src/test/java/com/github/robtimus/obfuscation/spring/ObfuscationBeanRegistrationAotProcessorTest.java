@@ -0,0 +1,154 @@
+/*
+ * ObfuscationBeanRegistrationAotProcessorTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import java.util.List;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import com.github.robtimus.obfuscation.Obfuscated;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.annotation.ObfuscateUsing;
+import com.github.robtimus.obfuscation.annotation.RepresentedBy;
+
+class ObfuscationBeanRegistrationAotProcessorTest {
+
+    @Test
+    @DisplayName("bean with annotated field")
+    void testBeanWithAnnotatedField() {
+        RuntimeHints runtimeHints = processAheadOfTime(BeanWithAnnotatedField.class);
+
+        assertTrue(canInstantiate(TestObfuscatorProvider.class).test(runtimeHints));
+        assertTrue(canAutowire(TestObfuscatorProvider.class).test(runtimeHints));
+        assertTrue(canInstantiate(TestCharacterRepresentationProvider.class).test(runtimeHints));
+        assertTrue(canAutowire(TestCharacterRepresentationProvider.class).test(runtimeHints));
+    }
+
+    @Test
+    @DisplayName("bean with annotated constructor argument")
+    void testBeanWithAnnotatedConstructorArgument() {
+        RuntimeHints runtimeHints = processAheadOfTime(BeanWithAnnotatedConstructorArgument.class);
+
+        assertTrue(canInstantiate(TestObfuscatorProvider.class).test(runtimeHints));
+    }
+
+    @Test
+    @DisplayName("bean with annotated method argument")
+    void testBeanWithAnnotatedMethodArgument() {
+        RuntimeHints runtimeHints = processAheadOfTime(BeanWithAnnotatedMethodArgument.class);
+
+        assertTrue(canInstantiate(TestObfuscatorProvider.class).test(runtimeHints));
+    }
+
+    @Test
+    @DisplayName("bean without obfuscation injection points")
+    void testBeanWithoutObfuscationInjectionPoints() {
+        assertNull(contribution(BeanWithoutObfuscationInjectionPoints.class));
+    }
+
+    @Test
+    @DisplayName("bean without injected members")
+    void testBeanWithoutInjectedMembers() {
+        assertNull(contribution(BeanWithoutInjectedMembers.class));
+    }
+
+    private RuntimeHints processAheadOfTime(Class<?> beanClass) {
+        BeanRegistrationAotContribution contribution = contribution(beanClass);
+        assertNotNull(contribution);
+
+        RuntimeHints runtimeHints = new RuntimeHints();
+        GenerationContext generationContext = mock(GenerationContext.class);
+        doReturn(runtimeHints).when(generationContext).getRuntimeHints();
+
+        contribution.applyTo(generationContext, mock(BeanRegistrationCode.class));
+        return runtimeHints;
+    }
+
+    private BeanRegistrationAotContribution contribution(Class<?> beanClass) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("bean", new RootBeanDefinition(beanClass));
+        RegisteredBean registeredBean = RegisteredBean.of(beanFactory, "bean");
+
+        return new ObfuscationBeanRegistrationAotProcessor().processAheadOfTime(registeredBean);
+    }
+
+    private Predicate<RuntimeHints> canInstantiate(Class<?> type) {
+        return RuntimeHintsPredicates.reflection().onType(type).withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+    }
+
+    @SuppressWarnings("removal")
+    private Predicate<RuntimeHints> canAutowire(Class<?> type) {
+        return RuntimeHintsPredicates.reflection().onType(type)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_METHODS);
+    }
+
+    static class BeanWithAnnotatedField {
+
+        @Autowired
+        @ObfuscateUsing(TestObfuscatorProvider.class)
+        @RepresentedBy(TestCharacterRepresentationProvider.class)
+        private Obfuscated<String> obfuscated;
+    }
+
+    static class BeanWithAnnotatedConstructorArgument {
+
+        BeanWithAnnotatedConstructorArgument(@ObfuscateUsing(TestObfuscatorProvider.class) Obfuscator obfuscator) {
+            // no content
+        }
+    }
+
+    static class BeanWithAnnotatedMethodArgument {
+
+        @Autowired
+        void setObfuscator(@ObfuscateUsing(TestObfuscatorProvider.class) Obfuscator obfuscator) {
+            // no content
+        }
+    }
+
+    static class BeanWithoutObfuscationInjectionPoints {
+
+        @Autowired
+        @ObfuscateUsing(TestObfuscatorProvider.class)
+        private List<String> values;
+    }
+
+    static class BeanWithoutInjectedMembers {
+
+        @ObfuscateUsing(TestObfuscatorProvider.class)
+        private Obfuscator obfuscator;
+
+        void setObfuscator(@ObfuscateUsing(TestObfuscatorProvider.class) Obfuscator obfuscator) {
+            this.obfuscator = obfuscator;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * ObfuscationWarmupTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+import org.springframework.core.metrics.ApplicationStartup;
+import com.github.robtimus.obfuscation.Obfuscated;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.annotation.CharacterRepresentationProvider;
+import com.github.robtimus.obfuscation.annotation.ObfuscateUsing;
+import com.github.robtimus.obfuscation.annotation.ObfuscatorProvider;
+import com.github.robtimus.obfuscation.annotation.RepresentedBy;
+
+@SuppressWarnings("nls")
+class ObfuscationWarmupTest {
+
+    private static final List<String> OBFUSCATED_TEXTS = new ArrayList<>();
+
+    @BeforeEach
+    @AfterEach
+    void clearInstances() {
+        TrackingObfuscatorProvider.INSTANCES.clear();
+        UnusedObfuscatorProvider.INSTANCES.clear();
+        TrackingCharacterRepresentationProvider.INSTANCES.clear();
+        OBFUSCATED_TEXTS.clear();
+    }
+
+    @Test
+    @DisplayName("without warm-up")
+    void testWithoutWarmup() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ProcessorProvider.class,
+                PrototypeBean.class)) {
+
+            assertEquals(0, TrackingObfuscatorProvider.INSTANCES.size());
+            assertEquals(0, TrackingCharacterRepresentationProvider.INSTANCES.size());
+            assertEquals(List.of(), OBFUSCATED_TEXTS);
+
+            context.getBean(PrototypeBean.class);
+
+            assertEquals(1, TrackingObfuscatorProvider.INSTANCES.size());
+            assertEquals(1, TrackingCharacterRepresentationProvider.INSTANCES.size());
+        }
+    }
+
+    @Test
+    @DisplayName("with warm-up")
+    void testWithWarmup() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ProcessorProvider.class,
+                WarmupProvider.class, PrototypeBean.class)) {
+
+            // Obfuscator and Obfuscated injection points share the same obfuscator cache, so only one provider is created
+            assertEquals(1, TrackingObfuscatorProvider.INSTANCES.size());
+            assertEquals(1, TrackingCharacterRepresentationProvider.INSTANCES.size());
+            // Each distinct obfuscator is used once: the one for all injection points, and the Obfuscator bean
+            assertEquals(List.of("warmup", "warmup"), OBFUSCATED_TEXTS);
+
+            PrototypeBean bean = context.getBean(PrototypeBean.class);
+
+            assertEquals(1, TrackingObfuscatorProvider.INSTANCES.size());
+            assertEquals(1, TrackingCharacterRepresentationProvider.INSTANCES.size());
+
+            assertSame(TrackingObfuscatorProvider.OBFUSCATOR, bean.obfuscator);
+            assertSame(TrackingObfuscatorProvider.OBFUSCATOR, bean.constructorObfuscator);
+            assertEquals("<tracked>", bean.obfuscated.toString());
+
+            // Methods that are not injected are not warmed up
+            assertEquals(0, UnusedObfuscatorProvider.INSTANCES.size());
+        }
+    }
+
+    @Test
+    @DisplayName("with warm-up of factory method")
+    void testWithWarmupOfFactoryMethod() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ProcessorProvider.class,
+                WarmupProvider.class, PrototypeFactory.class)) {
+
+            assertEquals(1, TrackingObfuscatorProvider.INSTANCES.size());
+            // The bean is created using the factory method, so its constructor is not warmed up
+            assertEquals(0, UnusedObfuscatorProvider.INSTANCES.size());
+
+            FactoryCreatedBean bean = context.getBean(FactoryCreatedBean.class);
+
+            assertEquals(1, TrackingObfuscatorProvider.INSTANCES.size());
+            assertEquals(0, UnusedObfuscatorProvider.INSTANCES.size());
+
+            assertSame(TrackingObfuscatorProvider.OBFUSCATOR, bean.obfuscator);
+        }
+    }
+
+    @Test
+    @DisplayName("with warm-up of inherited injected method")
+    void testWithWarmupOfInheritedInjectedMethod() {
+        List<String> steps = new ArrayList<>();
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.setApplicationStartup(name -> {
+                steps.add(name);
+                return ApplicationStartup.DEFAULT.start(name);
+            });
+            context.register(ProcessorProvider.class, WarmupProvider.class, InheritingPrototypeBean.class);
+            context.refresh();
+
+            assertEquals(1, TrackingObfuscatorProvider.INSTANCES.size());
+            assertTrue(steps.contains(ObfuscatorSupport.RESOLVE_OBFUSCATOR_STEP));
+
+            steps.clear();
+
+            InheritingPrototypeBean bean = context.getBean(InheritingPrototypeBean.class);
+
+            // The obfuscator for the inherited method's parameter was cached during the warm-up
+            assertFalse(steps.contains(ObfuscatorSupport.RESOLVE_OBFUSCATOR_STEP));
+            assertSame(TrackingObfuscatorProvider.OBFUSCATOR, bean.obfuscator);
+        }
+    }
+
+    @Test
+    @DisplayName("with warm-up of obfuscator registry")
+    void testWithWarmupOfObfuscatorRegistry() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ProcessorProvider.class,
+                WarmupProvider.class, RegistryProvider.class)) {
+
+            // The Obfuscator bean and the obfuscator in the registry
+            assertEquals(List.of("warmup", "warmup"), OBFUSCATED_TEXTS);
+
+            ObfuscatorRegistry registry = context.getBean(ObfuscatorRegistry.class);
+            assertEquals("<tracked>", registry.obfuscator("registered").orElseThrow().obfuscateText("foo").toString());
+        }
+    }
+
+    private static Obfuscator trackingObfuscator() {
+        return Obfuscator.fromFunction(s -> {
+            OBFUSCATED_TEXTS.add(s.toString());
+            return "<tracked>";
+        });
+    }
+
+    @Configuration
+    static class ProcessorProvider {
+
+        @Bean
+        static ObfuscatorSupportBeanFactoryPostProcessor obfuscatorSupportPostProcessor() {
+            return new ObfuscatorSupportBeanFactoryPostProcessor();
+        }
+
+        @Bean
+        static ObfuscatedSupportBeanFactoryPostProcessor obfuscatedSupportPostProcessor() {
+            return new ObfuscatedSupportBeanFactoryPostProcessor();
+        }
+    }
+
+    @Configuration
+    static class WarmupProvider {
+
+        @Bean
+        ObfuscationWarmup obfuscationWarmup() {
+            return new ObfuscationWarmup();
+        }
+
+        @Bean
+        Obfuscator obfuscator() {
+            return trackingObfuscator();
+        }
+    }
+
+    @Configuration
+    static class PrototypeFactory {
+
+        @Bean
+        @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+        FactoryCreatedBean factoryCreatedBean(@ObfuscateUsing(TrackingObfuscatorProvider.class) Obfuscator obfuscator) {
+            return new FactoryCreatedBean(obfuscator);
+        }
+    }
+
+    @Configuration
+    static class RegistryProvider {
+
+        @Bean
+        ObfuscatorRegistry obfuscatorRegistry() {
+            return ObfuscatorRegistry.of(Map.of("registered", trackingObfuscator()));
+        }
+    }
+
+    static class FactoryCreatedBean {
+
+        private final Obfuscator obfuscator;
+
+        FactoryCreatedBean(@ObfuscateUsing(UnusedObfuscatorProvider.class) Obfuscator obfuscator) {
+            this.obfuscator = obfuscator;
+        }
+    }
+
+    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+    static class PrototypeBean {
+
+        @Autowired
+        @ObfuscateUsing(TrackingObfuscatorProvider.class)
+        private Obfuscator obfuscator;
+
+        @Value("value")
+        @ObfuscateUsing(TrackingObfuscatorProvider.class)
+        @RepresentedBy(TrackingCharacterRepresentationProvider.class)
+        private Obfuscated<String> obfuscated;
+
+        private final Obfuscator constructorObfuscator;
+
+        PrototypeBean(@ObfuscateUsing(TrackingObfuscatorProvider.class) Obfuscator constructorObfuscator) {
+            this.constructorObfuscator = constructorObfuscator;
+        }
+
+        @SuppressWarnings("unused")
+        void notInjected(@ObfuscateUsing(UnusedObfuscatorProvider.class) Obfuscator obfuscator) {
+            // not called
+        }
+    }
+
+    abstract static class InjectedMethodBase {
+
+        Obfuscator obfuscator;
+
+        @Autowired
+        void setObfuscator(@ObfuscateUsing(TrackingObfuscatorProvider.class) Obfuscator obfuscator) {
+            this.obfuscator = obfuscator;
+        }
+    }
+
+    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+    static class InheritingPrototypeBean extends InjectedMethodBase {
+        // inherits the injected method
+    }
+
+    static class TrackingObfuscatorProvider implements ObfuscatorProvider {
+
+        static final Obfuscator OBFUSCATOR = trackingObfuscator();
+
+        static final List<TrackingObfuscatorProvider> INSTANCES = new ArrayList<>();
+
+        TrackingObfuscatorProvider() {
+            INSTANCES.add(this);
+        }
+
+        @Override
+        public Obfuscator obfuscator() {
+            return OBFUSCATOR;
+        }
+    }
+
+    static class UnusedObfuscatorProvider implements ObfuscatorProvider {
+
+        static final List<UnusedObfuscatorProvider> INSTANCES = new ArrayList<>();
+
+        UnusedObfuscatorProvider() {
+            INSTANCES.add(this);
+        }
+
+        @Override
+        public Obfuscator obfuscator() {
+            return Obfuscator.none();
+        }
+    }
+
+    static class TrackingCharacterRepresentationProvider implements CharacterRepresentationProvider {
+
+        static final List<TrackingCharacterRepresentationProvider> INSTANCES = new ArrayList<>();
+
+        TrackingCharacterRepresentationProvider() {
+            INSTANCES.add(this);
+        }
+
+        @Override
+        public CharSequence toCharSequence(Object value) {
+            return value.toString();
+        }
+    }
+}
@@ -20,6 +20,8 @@ package com.github.robtimus.obfuscation.spring;
 import static com.github.robtimus.obfuscation.Obfuscator.fixedValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import java.time.LocalDate;
 import java.util.Objects;
 import java.util.UUID;
@@ -28,14 +30,19 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import com.github.robtimus.obfuscation.Obfuscated;
 import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.annotation.ObfuscatePortion;
 import com.github.robtimus.obfuscation.annotation.ObfuscateUsing;
 
 @SuppressWarnings("nls")
@@ -95,6 +102,43 @@ class ObfuscatorSupportBeanFactoryPostProcessorTest {
             }
         }
 
+        @Nested
+        @DisplayName("with registered obfuscator bean")
+        @ExtendWith(SpringExtension.class)
+        @ContextConfiguration(classes = { ProcessorProvider.class, ObfuscatorRegistrar.class, BeanWithAutowiredObfuscatorField.class })
+        @DirtiesContext
+        class WithRegisteredObfuscatorBean {
+
+            @Autowired
+            private ApplicationContext context;
+
+            @Test
+            @DisplayName("autowiring")
+            void testAutowiring() {
+                BeanWithAutowiredObfuscatorField bean = context.getBean(BeanWithAutowiredObfuscatorField.class);
+
+                Obfuscator expected = ObfuscatorRegistrar.REGISTERED_OBFUSCATOR;
+
+                assertEquals(expected, bean.obfuscator);
+            }
+
+            @Test
+            @DisplayName("autowiring after registering singleton")
+            void testAutowiringAfterRegisteringSingleton() {
+                DefaultListableBeanFactory beanFactory = (DefaultListableBeanFactory) context.getAutowireCapableBeanFactory();
+
+                BeanWithAutowiredObfuscatorField bean = beanFactory.createBean(BeanWithAutowiredObfuscatorField.class);
+                assertEquals(ObfuscatorRegistrar.REGISTERED_OBFUSCATOR, bean.obfuscator);
+
+                Obfuscator expected = fixedValue("<late>");
+                beanFactory.removeBeanDefinition("registeredObfuscator");
+                beanFactory.registerSingleton("lateObfuscator", expected);
+
+                bean = beanFactory.createBean(BeanWithAutowiredObfuscatorField.class);
+                assertEquals(expected, bean.obfuscator);
+            }
+        }
+
         @Nested
         @DisplayName("with annotated obfuscator")
         @ExtendWith(SpringExtension.class)
@@ -119,6 +163,31 @@ class ObfuscatorSupportBeanFactoryPostProcessorTest {
                 assertEquals(expected.obfuscateText(text).toString(), bean.lazyObfuscator.obfuscateText(text).toString());
             }
         }
+
+        @Nested
+        @DisplayName("with equally annotated obfuscators")
+        @ExtendWith(SpringExtension.class)
+        @ContextConfiguration(classes = { ProcessorProvider.class, BeanWithEquallyAnnotatedObfuscatorFields.class })
+        class WithEquallyAnnotatedObfuscators {
+
+            @Autowired
+            private ApplicationContext context;
+
+            @Test
+            @DisplayName("autowiring")
+            void testAutowiring() {
+                BeanWithEquallyAnnotatedObfuscatorFields bean = context.getBean(BeanWithEquallyAnnotatedObfuscatorFields.class);
+
+                Obfuscator expected = Obfuscator.portion()
+                        .keepAtEnd(4)
+                        .build();
+
+                assertEquals(expected, bean.obfuscator);
+                assertSame(bean.obfuscator, bean.sameObfuscator);
+                assertNotSame(bean.obfuscator, bean.otherObfuscator);
+                assertNotEquals(expected, bean.otherObfuscator);
+            }
+        }
     }
 
     @Nested
@@ -300,6 +369,20 @@ class ObfuscatorSupportBeanFactoryPostProcessorTest {
         }
     }
 
+    @Configuration
+    static class ObfuscatorRegistrar {
+
+        static final Obfuscator REGISTERED_OBFUSCATOR = fixedValue("<registered>");
+
+        @Bean
+        static BeanDefinitionRegistryPostProcessor obfuscatorRegistrar() {
+            return registry -> {
+                RootBeanDefinition beanDefinition = new RootBeanDefinition(Obfuscator.class, () -> REGISTERED_OBFUSCATOR);
+                registry.registerBeanDefinition("registeredObfuscator", beanDefinition);
+            };
+        }
+    }
+
     static class BeanWithAutowiredObfuscatorField {
 
         @Autowired
@@ -322,6 +405,21 @@ class ObfuscatorSupportBeanFactoryPostProcessorTest {
         private Obfuscator lazyObfuscator;
     }
 
+    static class BeanWithEquallyAnnotatedObfuscatorFields {
+
+        @Autowired
+        @ObfuscatePortion(keepAtEnd = 4)
+        private Obfuscator obfuscator;
+
+        @Autowired
+        @ObfuscatePortion(keepAtEnd = 4)
+        private Obfuscator sameObfuscator;
+
+        @Autowired
+        @ObfuscatePortion(keepAtEnd = 2)
+        private Obfuscator otherObfuscator;
+    }
+
     static class BeanWithObfuscatorConstructorArgument {
 
         private final Obfuscator obfuscator;
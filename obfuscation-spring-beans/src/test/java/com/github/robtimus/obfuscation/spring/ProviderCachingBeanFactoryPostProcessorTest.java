@@ -0,0 +1,142 @@
+/*
+ * ProviderCachingBeanFactoryPostProcessorTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.github.robtimus.obfuscation.Obfuscated;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.annotation.ObfuscateUsing;
+import com.github.robtimus.obfuscation.annotation.ObfuscatorProvider;
+
+@SuppressWarnings("nls")
+class ProviderCachingBeanFactoryPostProcessorTest {
+
+    @BeforeEach
+    @AfterEach
+    void clearInstances() {
+        TrackingObfuscatorProvider.INSTANCES.clear();
+    }
+
+    @Test
+    @DisplayName("without caching")
+    void testWithoutCaching() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ProcessorProvider.class,
+                BeanWithProvidedObfuscators.class)) {
+
+            BeanWithProvidedObfuscators bean = context.getBean(BeanWithProvidedObfuscators.class);
+
+            assertSame(TrackingObfuscatorProvider.OBFUSCATOR, bean.obfuscator);
+            assertEquals(TrackingObfuscatorProvider.OBFUSCATOR.obfuscateObject("value"), bean.obfuscated);
+            // Obfuscator and Obfuscated injection points share the same obfuscator cache
+            assertEquals(1, TrackingObfuscatorProvider.INSTANCES.size());
+        }
+    }
+
+    @Test
+    @DisplayName("with caching")
+    void testWithCaching() {
+        TrackingObfuscatorProvider provider;
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ProcessorProvider.class,
+                CachingProcessorProvider.class, BeanWithProvidedObfuscators.class)) {
+
+            BeanWithProvidedObfuscators bean = context.getBean(BeanWithProvidedObfuscators.class);
+
+            assertSame(TrackingObfuscatorProvider.OBFUSCATOR, bean.obfuscator);
+            assertEquals(TrackingObfuscatorProvider.OBFUSCATOR.obfuscateObject("value"), bean.obfuscated);
+            assertEquals(1, TrackingObfuscatorProvider.INSTANCES.size());
+
+            BeanFactoryObjectFactory objectFactory = new BeanFactoryObjectFactory(context.getAutowireCapableBeanFactory());
+            provider = TrackingObfuscatorProvider.INSTANCES.get(0);
+
+            assertSame(provider, objectFactory.instance(TrackingObfuscatorProvider.class));
+            assertEquals(1, TrackingObfuscatorProvider.INSTANCES.size());
+            assertEquals(0, provider.destroyCount);
+        }
+        assertEquals(1, provider.destroyCount);
+    }
+
+    @Configuration
+    static class ProcessorProvider {
+
+        @Bean
+        static ObfuscatorSupportBeanFactoryPostProcessor obfuscatorSupportPostProcessor() {
+            return new ObfuscatorSupportBeanFactoryPostProcessor();
+        }
+
+        @Bean
+        static ObfuscatedSupportBeanFactoryPostProcessor obfuscatedSupportPostProcessor() {
+            return new ObfuscatedSupportBeanFactoryPostProcessor();
+        }
+    }
+
+    @Configuration
+    static class CachingProcessorProvider {
+
+        @Bean
+        static ProviderCachingBeanFactoryPostProcessor providerCachingPostProcessor() {
+            return new ProviderCachingBeanFactoryPostProcessor();
+        }
+    }
+
+    static class BeanWithProvidedObfuscators {
+
+        @Autowired
+        @ObfuscateUsing(TrackingObfuscatorProvider.class)
+        private Obfuscator obfuscator;
+
+        @Value("value")
+        @ObfuscateUsing(TrackingObfuscatorProvider.class)
+        private Obfuscated<String> obfuscated;
+    }
+
+    static class TrackingObfuscatorProvider implements ObfuscatorProvider, DisposableBean {
+
+        static final Obfuscator OBFUSCATOR = Obfuscator.fixedValue("<tracked>");
+
+        static final List<TrackingObfuscatorProvider> INSTANCES = new ArrayList<>();
+
+        private int destroyCount = 0;
+
+        TrackingObfuscatorProvider() {
+            INSTANCES.add(this);
+        }
+
+        @Override
+        public Obfuscator obfuscator() {
+            return OBFUSCATOR;
+        }
+
+        @Override
+        public void destroy() {
+            destroyCount++;
+        }
+    }
+}
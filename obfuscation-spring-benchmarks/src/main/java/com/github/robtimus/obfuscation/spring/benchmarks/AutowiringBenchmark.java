@@ -0,0 +1,260 @@
+/*
+ * AutowiringBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+import com.github.robtimus.obfuscation.Obfuscated;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.annotation.ObfuscateFixedLength;
+import com.github.robtimus.obfuscation.annotation.ObfuscatePortion;
+import com.github.robtimus.obfuscation.spring.ObfuscatedSupportBeanFactoryPostProcessor;
+import com.github.robtimus.obfuscation.spring.ObfuscatorSupportBeanFactoryPostProcessor;
+
+/**
+ * Benchmarks for creating prototype beans that autowire {@link Obfuscator} and {@link Obfuscated} instances.
+ * <p>
+ * Each benchmark retrieves a new prototype bean from an application context. The {@code baseline} benchmark uses an application context without
+ * {@link ObfuscatorSupportBeanFactoryPostProcessor} and {@link ObfuscatedSupportBeanFactoryPostProcessor}, and a bean that autowires plain
+ * beans. All other benchmarks use an application context with both post processors, so they measure the resolver chain, obfuscator resolution and
+ * type conversion on top of regular autowiring.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@SuppressWarnings({ "javadoc", "nls" })
+public class AutowiringBenchmark {
+
+    private AnnotationConfigApplicationContext baselineContext;
+    private AnnotationConfigApplicationContext obfuscationContext;
+
+    @Setup
+    public void setup() {
+        baselineContext = new AnnotationConfigApplicationContext(BaselineConfiguration.class);
+        obfuscationContext = new AnnotationConfigApplicationContext(ObfuscationConfiguration.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        baselineContext.close();
+        obfuscationContext.close();
+    }
+
+    @Benchmark
+    public Object baseline() {
+        return baselineContext.getBean(PlainBean.class);
+    }
+
+    @Benchmark
+    public Object defaultObfuscator() {
+        return obfuscationContext.getBean(DefaultObfuscatorBean.class);
+    }
+
+    @Benchmark
+    public Object annotatedObfuscatorField() {
+        return obfuscationContext.getBean(AnnotatedObfuscatorFieldBean.class);
+    }
+
+    @Benchmark
+    public Object annotatedObfuscatorConstructorArgument() {
+        return obfuscationContext.getBean(AnnotatedObfuscatorConstructorBean.class);
+    }
+
+    @Benchmark
+    public Object obfuscatedString() {
+        return obfuscationContext.getBean(ObfuscatedStringBean.class);
+    }
+
+    @Benchmark
+    public Object annotatedObfuscatedString() {
+        return obfuscationContext.getBean(AnnotatedObfuscatedStringBean.class);
+    }
+
+    @Benchmark
+    public Object obfuscatedBean() {
+        return obfuscationContext.getBean(ObfuscatedPayloadBean.class);
+    }
+
+    @Configuration
+    public static class BaselineConfiguration {
+
+        @Bean
+        public Obfuscator obfuscator() {
+            return Obfuscator.fixedLength(3);
+        }
+
+        @Bean
+        public String value() {
+            return "value";
+        }
+
+        @Bean
+        public Payload payload() {
+            return new Payload();
+        }
+
+        @Bean
+        @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+        public PlainBean plainBean() {
+            return new PlainBean();
+        }
+    }
+
+    @Configuration
+    public static class ObfuscationConfiguration {
+
+        @Bean
+        public static ObfuscatorSupportBeanFactoryPostProcessor obfuscatorSupportBeanFactoryPostProcessor() {
+            return new ObfuscatorSupportBeanFactoryPostProcessor();
+        }
+
+        @Bean
+        public static ObfuscatedSupportBeanFactoryPostProcessor obfuscatedSupportBeanFactoryPostProcessor() {
+            return new ObfuscatedSupportBeanFactoryPostProcessor();
+        }
+
+        @Bean
+        public String value() {
+            return "value";
+        }
+
+        @Bean
+        public Payload payload() {
+            return new Payload();
+        }
+
+        @Bean
+        @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+        public DefaultObfuscatorBean defaultObfuscatorBean() {
+            return new DefaultObfuscatorBean();
+        }
+
+        @Bean
+        @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+        public AnnotatedObfuscatorFieldBean annotatedObfuscatorFieldBean() {
+            return new AnnotatedObfuscatorFieldBean();
+        }
+
+        @Bean
+        @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+        public AnnotatedObfuscatorConstructorBean annotatedObfuscatorConstructorBean(
+                @ObfuscatePortion(keepAtStart = 2, keepAtEnd = 2) Obfuscator obfuscator) {
+
+            return new AnnotatedObfuscatorConstructorBean(obfuscator);
+        }
+
+        @Bean
+        @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+        public ObfuscatedStringBean obfuscatedStringBean() {
+            return new ObfuscatedStringBean();
+        }
+
+        @Bean
+        @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+        public AnnotatedObfuscatedStringBean annotatedObfuscatedStringBean() {
+            return new AnnotatedObfuscatedStringBean();
+        }
+
+        @Bean
+        @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+        public ObfuscatedPayloadBean obfuscatedPayloadBean() {
+            return new ObfuscatedPayloadBean();
+        }
+    }
+
+    public static final class Payload {
+
+        @Override
+        public String toString() {
+            return "payload";
+        }
+    }
+
+    public static final class PlainBean {
+
+        @Autowired
+        private Obfuscator obfuscator;
+
+        @Autowired
+        private String value;
+
+        @Autowired
+        private Payload payload;
+    }
+
+    public static final class DefaultObfuscatorBean {
+
+        @Autowired
+        private Obfuscator obfuscator;
+    }
+
+    public static final class AnnotatedObfuscatorFieldBean {
+
+        @Autowired
+        @ObfuscateFixedLength(5)
+        private Obfuscator obfuscator;
+    }
+
+    public static final class AnnotatedObfuscatorConstructorBean {
+
+        private final Obfuscator obfuscator;
+
+        public AnnotatedObfuscatorConstructorBean(Obfuscator obfuscator) {
+            this.obfuscator = obfuscator;
+        }
+    }
+
+    public static final class ObfuscatedStringBean {
+
+        @Autowired
+        private Obfuscated<String> value;
+    }
+
+    public static final class AnnotatedObfuscatedStringBean {
+
+        @Autowired
+        @ObfuscateFixedLength(5)
+        private Obfuscated<String> value;
+    }
+
+    public static final class ObfuscatedPayloadBean {
+
+        @Autowired
+        private Obfuscated<Payload> payload;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * BenchmarkObfuscatorProvider.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.benchmarks;
+
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.annotation.ObfuscatorProvider;
+import com.github.robtimus.obfuscation.spring.boot.autoconfigure.ObfuscatorProperties.ObfuscationMode;
+
+/**
+ * An {@link ObfuscatorProvider} for benchmarks that use {@link ObfuscationMode#PROVIDER}.
+ *
+ * @author Rob Spoor
+ */
+public class BenchmarkObfuscatorProvider implements ObfuscatorProvider {
+
+    @Override
+    public Obfuscator obfuscator() {
+        return Obfuscator.portion()
+                .keepAtStart(2)
+                .keepAtEnd(2)
+                .withFixedTotalLength(8)
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * CreateObfuscatorsBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.spring.boot.autoconfigure.ObfuscatorProperties;
+import com.github.robtimus.obfuscation.spring.boot.autoconfigure.ObfuscatorProperties.ObfuscationMode;
+
+/**
+ * Benchmarks for {@link ObfuscatorProperties#createObfuscators(Map, org.springframework.beans.factory.config.AutowireCapableBeanFactory)}.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("javadoc")
+public class CreateObfuscatorsBenchmark {
+
+    @Param({ "10", "1000", "50000" })
+    public int size;
+
+    @Param
+    public ObfuscationMode mode;
+
+    private Map<String, ObfuscatorProperties> properties;
+    private DefaultListableBeanFactory beanFactory;
+
+    @Setup
+    public void setup() {
+        properties = ObfuscatorPropertiesFixtures.propertiesMap(mode, size);
+        beanFactory = new DefaultListableBeanFactory();
+    }
+
+    @Benchmark
+    public Map<String, Obfuscator> createObfuscators() {
+        return ObfuscatorProperties.createObfuscators(properties, beanFactory);
+    }
+}
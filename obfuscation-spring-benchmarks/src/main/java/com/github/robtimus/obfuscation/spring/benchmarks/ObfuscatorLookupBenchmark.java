@@ -0,0 +1,119 @@
+/*
+ * ObfuscatorLookupBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.benchmarks;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.spring.boot.autoconfigure.ObfuscatorProperties;
+import com.github.robtimus.obfuscation.spring.boot.autoconfigure.ObfuscatorProperties.ObfuscationMode;
+
+/**
+ * Benchmarks for looking up obfuscators in maps created by {@link ObfuscatorProperties}.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({ "javadoc", "nls" })
+public class ObfuscatorLookupBenchmark {
+
+    private static final int LOOKUP_COUNT = 1024;
+
+    @Param({ "10", "1000", "20000" })
+    public int size;
+
+    private Map<String, Obfuscator> hashMap;
+    private Map<String, Obfuscator> lookupMap;
+    private Map<String, Obfuscator> caseInsensitiveLookupMap;
+
+    private String[] keys;
+    private String[] lowerCaseKeys;
+
+    @Setup
+    public void setup() {
+        Map<String, ObfuscatorProperties> properties = ObfuscatorPropertiesFixtures.propertiesMap(ObfuscationMode.PORTION, size);
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+        hashMap = ObfuscatorProperties.createObfuscators(properties, beanFactory);
+        lookupMap = ObfuscatorProperties.createObfuscatorLookup(properties, beanFactory);
+        caseInsensitiveLookupMap = ObfuscatorProperties.createCaseInsensitiveObfuscatorLookup(properties, beanFactory);
+
+        // Use new String instances with different cases, like field or header names read from a request
+        Random random = new Random(0);
+        keys = new String[LOOKUP_COUNT];
+        lowerCaseKeys = new String[LOOKUP_COUNT];
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            int index = random.nextInt(size * 2);
+            keys[i] = index < size ? "FIELD" + index : "UNKNOWN" + index;
+            lowerCaseKeys[i] = keys[i].toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUP_COUNT)
+    public void hashMap(Blackhole blackhole) {
+        for (String key : lowerCaseKeys) {
+            blackhole.consume(hashMap.get(key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUP_COUNT)
+    public void hashMapWithLowerCasing(Blackhole blackhole) {
+        for (String key : keys) {
+            blackhole.consume(hashMap.get(key.toLowerCase(Locale.ROOT)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUP_COUNT)
+    public void lookupMap(Blackhole blackhole) {
+        for (String key : lowerCaseKeys) {
+            blackhole.consume(lookupMap.get(key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUP_COUNT)
+    public void caseInsensitiveLookupMap(Blackhole blackhole) {
+        for (String key : keys) {
+            blackhole.consume(caseInsensitiveLookupMap.get(key));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * ObfuscatorPropertiesBindingBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.context.properties.bind.BindHandler;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.validation.ValidationBindHandler;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import com.github.robtimus.obfuscation.spring.boot.autoconfigure.ObfuscatorProperties;
+import com.github.robtimus.obfuscation.spring.boot.autoconfigure.ObfuscatorProperties.ObfuscationMode;
+
+/**
+ * Benchmarks for binding {@link ObfuscatorProperties} using Spring Boot's {@link Binder}, with and without validation.
+ * <p>
+ * {@link #bindWithValidation()} validates the properties like Spring Boot does by default, using {@link ObfuscatorProperties} as validator.
+ * {@link #bindWithBeanValidation()} validates the properties using Bean Validation, like Spring Boot does for nested properties and for
+ * sub classes that are annotated with {@link org.springframework.validation.annotation.Validated @Validated}.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({ "javadoc", "nls" })
+public class ObfuscatorPropertiesBindingBenchmark {
+
+    private static final String PREFIX = "obfuscator";
+    private static final Bindable<ObfuscatorProperties> BINDABLE = Bindable.of(ObfuscatorProperties.class);
+
+    @Param
+    public ObfuscationMode mode;
+
+    private Binder binder;
+    private BindHandler validationBindHandler;
+    private LocalValidatorFactoryBean beanValidator;
+    private BindHandler beanValidationBindHandler;
+
+    @Setup
+    public void setup() {
+        binder = new Binder(new MapConfigurationPropertySource(ObfuscatorPropertiesFixtures.propertyValues(mode, PREFIX)));
+
+        // ObfuscatorProperties validates the given target, not itself, so any instance can be used to validate the bound properties
+        validationBindHandler = new ValidationBindHandler(new ObfuscatorProperties());
+
+        beanValidator = new LocalValidatorFactoryBean();
+        beanValidator.afterPropertiesSet();
+        beanValidationBindHandler = new ValidationBindHandler(beanValidator);
+    }
+
+    @TearDown
+    public void tearDown() {
+        beanValidator.close();
+    }
+
+    @Benchmark
+    public ObfuscatorProperties bind() {
+        return binder.bind(PREFIX, BINDABLE).get();
+    }
+
+    @Benchmark
+    public ObfuscatorProperties bindWithValidation() {
+        return binder.bind(PREFIX, BINDABLE, validationBindHandler).get();
+    }
+
+    @Benchmark
+    public ObfuscatorProperties bindWithBeanValidation() {
+        return binder.bind(PREFIX, BINDABLE, beanValidationBindHandler).get();
+    }
+}
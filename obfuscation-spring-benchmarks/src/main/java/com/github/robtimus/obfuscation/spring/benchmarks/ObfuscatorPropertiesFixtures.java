@@ -0,0 +1,106 @@
+/*
+ * ObfuscatorPropertiesFixtures.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import com.github.robtimus.obfuscation.spring.boot.autoconfigure.ObfuscatorProperties;
+import com.github.robtimus.obfuscation.spring.boot.autoconfigure.ObfuscatorProperties.ObfuscationMode;
+
+/**
+ * Creates {@link ObfuscatorProperties} objects and property values for each {@link ObfuscationMode}, with all properties set that apply to
+ * the mode.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("nls")
+final class ObfuscatorPropertiesFixtures {
+
+    private ObfuscatorPropertiesFixtures() {
+    }
+
+    static ObfuscatorProperties properties(ObfuscationMode mode) {
+        ObfuscatorProperties properties = new ObfuscatorProperties();
+        properties.setMode(mode);
+        switch (mode) {
+            case ALL:
+                properties.setMaskChar('x');
+                break;
+            case FIXED_LENGTH:
+                properties.setMaskChar('x');
+                properties.setFixedLength(8);
+                break;
+            case FIXED_VALUE:
+                properties.setFixedValue("<hidden>");
+                break;
+            case PORTION:
+                properties.setMaskChar('x');
+                properties.setKeepAtStart(2);
+                properties.setKeepAtEnd(2);
+                properties.setAtLeastFromStart(1);
+                properties.setFixedTotalLength(8);
+                break;
+            case PROVIDER:
+                properties.setProviderClass(BenchmarkObfuscatorProvider.class);
+                break;
+            case NONE:
+            default:
+                break;
+        }
+        return properties;
+    }
+
+    static Map<String, String> propertyValues(ObfuscationMode mode, String prefix) {
+        Map<String, String> values = new HashMap<>();
+        values.put(prefix + ".mode", mode.name());
+        switch (mode) {
+            case ALL:
+                values.put(prefix + ".mask-char", "x");
+                break;
+            case FIXED_LENGTH:
+                values.put(prefix + ".mask-char", "x");
+                values.put(prefix + ".fixed-length", "8");
+                break;
+            case FIXED_VALUE:
+                values.put(prefix + ".fixed-value", "<hidden>");
+                break;
+            case PORTION:
+                values.put(prefix + ".mask-char", "x");
+                values.put(prefix + ".keep-at-start", "2");
+                values.put(prefix + ".keep-at-end", "2");
+                values.put(prefix + ".at-least-from-start", "1");
+                values.put(prefix + ".fixed-total-length", "8");
+                break;
+            case PROVIDER:
+                values.put(prefix + ".provider-class", BenchmarkObfuscatorProvider.class.getName());
+                break;
+            case NONE:
+            default:
+                break;
+        }
+        return values;
+    }
+
+    static Map<String, ObfuscatorProperties> propertiesMap(ObfuscationMode mode, int size) {
+        Map<String, ObfuscatorProperties> properties = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            properties.put("field" + i, properties(mode));
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * ObfuscatorThroughputBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.spring.boot.autoconfigure.ObfuscatorProperties;
+import com.github.robtimus.obfuscation.spring.boot.autoconfigure.ObfuscatorProperties.ObfuscationMode;
+
+/**
+ * Benchmarks for the throughput of obfuscators created from {@link ObfuscatorProperties}, on short and long inputs.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("javadoc")
+public class ObfuscatorThroughputBenchmark {
+
+    @Param
+    public ObfuscationMode mode;
+
+    @Param({ "16", "4096" })
+    public int inputLength;
+
+    private Obfuscator obfuscator;
+    private String input;
+
+    @Setup
+    public void setup() {
+        obfuscator = ObfuscatorPropertiesFixtures.properties(mode).createObfuscator(new DefaultListableBeanFactory());
+
+        StringBuilder sb = new StringBuilder(inputLength);
+        for (int i = 0; i < inputLength; i++) {
+            sb.append((char) ('a' + i % 26));
+        }
+        input = sb.toString();
+    }
+
+    @Benchmark
+    public CharSequence obfuscateText() {
+        return obfuscator.obfuscateText(input);
+    }
+
+    @Benchmark
+    public String obfuscateObjectToString() {
+        return obfuscator.obfuscateObject(input).toString();
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * package-info.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * JMH benchmarks for obfuscation-spring.
+ * <p>
+ * This module is only built using the {@code benchmarks} profile. To run the benchmarks, build the module using
+ * {@code mvn -P benchmarks -pl obfuscation-spring-benchmarks -am package}, then run
+ * {@code java -jar obfuscation-spring-benchmarks/target/benchmarks.jar}.
+ * Standard JMH options can be used to select benchmarks or add profilers, e.g. {@code -prof gc} to measure allocation.
+ * <p>
+ * Startup benchmarks are located in module {@code obfuscation-spring-startup-benchmarks}.
+ */
+package com.github.robtimus.obfuscation.spring.benchmarks;
@@ -0,0 +1,151 @@
+/*
+ * ConfigurationPropertyNameIndex.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.boot.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyState;
+import org.springframework.boot.context.properties.source.IterableConfigurationPropertySource;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.SystemEnvironmentPropertySource;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
+
+/**
+ * An index of the configuration property names of an environment.
+ * <p>
+ * Property names are compared the same way as {@link ConfigurationPropertyName}, so relaxed names like {@code maskChar} and {@code mask-char}
+ * match each other. Property names from sources that cannot be iterated, and from system environment sources which use a different naming
+ * scheme, are not indexed; these sources are queried directly.
+ * <p>
+ * Indexes are cached for one condition evaluation pass, i.e. for as long as the configuration of the bean factory that conditions are
+ * evaluated for is not frozen. Within that pass a cached index is rebuilt if property sources are added, removed or replaced, for instance
+ * using {@link org.springframework.context.annotation.PropertySource @PropertySource}. Changes to the contents of property sources are only
+ * picked up by the next pass; these are not expected while conditions are being evaluated.
+ *
+ * @author Rob Spoor
+ */
+final class ConfigurationPropertyNameIndex {
+
+    // Bean factories are weakly referenced, so they can be garbage collected once their application contexts are no longer used
+    private static final Map<ConfigurableListableBeanFactory, ConfigurationPropertyNameIndex> INDEXES = new ConcurrentReferenceHashMap<>(16,
+            ReferenceType.WEAK);
+
+    private final ConfigurableEnvironment environment;
+    private final List<PropertySource<?>> propertySources;
+    private final Set<ConfigurationPropertyName> names;
+    // All ancestors of the indexed names, so looking up descendants does not need to iterate over all names
+    private final Set<ConfigurationPropertyName> ancestors;
+    private final List<ConfigurationPropertySource> unindexedSources;
+
+    private ConfigurationPropertyNameIndex(ConfigurableEnvironment environment, List<PropertySource<?>> propertySources) {
+        this.environment = environment;
+        this.propertySources = propertySources;
+        this.names = new HashSet<>();
+        this.ancestors = new HashSet<>();
+        this.unindexedSources = new ArrayList<>();
+
+        for (ConfigurationPropertySource source : ConfigurationPropertySources.get(environment)) {
+            if (source instanceof IterableConfigurationPropertySource iterableSource
+                    && !(source.getUnderlyingSource() instanceof SystemEnvironmentPropertySource)) {
+
+                iterableSource.stream().forEach(this::addName);
+            } else {
+                unindexedSources.add(source);
+            }
+        }
+    }
+
+    private void addName(ConfigurationPropertyName name) {
+        if (names.add(name)) {
+            // Stop at the first ancestor that was already added; its own ancestors have been added as well
+            ConfigurationPropertyName parent = name.getParent();
+            while (!parent.isEmpty() && ancestors.add(parent)) {
+                parent = parent.getParent();
+            }
+        }
+    }
+
+    static ConfigurationPropertyNameIndex of(ConfigurableEnvironment environment, ConfigurableListableBeanFactory beanFactory) {
+        List<PropertySource<?>> propertySources = environment.getPropertySources().stream().toList();
+        if (beanFactory == null || beanFactory.isConfigurationFrozen()) {
+            // Not part of a condition evaluation pass
+            return new ConfigurationPropertyNameIndex(environment, propertySources);
+        }
+        ConfigurationPropertyNameIndex index = INDEXES.get(beanFactory);
+        if (index == null || index.environment != environment || !isSame(index.propertySources, propertySources)) {
+            index = new ConfigurationPropertyNameIndex(environment, propertySources);
+            INDEXES.put(beanFactory, index);
+        }
+        return index;
+    }
+    private static boolean isSame(List<PropertySource<?>> propertySources1, List<PropertySource<?>> propertySources2) {
+        // PropertySource implements equals based on its name only, so compare identities instead
+        if (propertySources1.size() != propertySources2.size()) {
+            return false;
+        }
+        for (int i = 0; i < propertySources1.size(); i++) {
+            if (propertySources1.get(i) != propertySources2.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean containsAny(List<ConfigurationPropertyName> propertyNames) {
+        for (ConfigurationPropertyName propertyName : propertyNames) {
+            if (contains(propertyName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean containsDescendantOf(ConfigurationPropertyName propertyName) {
+        if (ancestors.contains(propertyName)) {
+            return true;
+        }
+        for (ConfigurationPropertySource source : unindexedSources) {
+            // Sources that cannot tell are ignored; properties from these cannot be bound to maps either
+            if (source.containsDescendantOf(propertyName) == ConfigurationPropertyState.PRESENT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean contains(ConfigurationPropertyName propertyName) {
+        if (names.contains(propertyName)) {
+            return true;
+        }
+        for (ConfigurationPropertySource source : unindexedSources) {
+            if (source.getConfigurationProperty(propertyName) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * LookupMap.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.boot.autoconfigure;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable map that is optimized for lookups.
+ * <p>
+ * Keys and values are stored in arrays using open addressing with linear probing, so no entry objects are needed. The hash of each key is
+ * stored as well, so most non-matching keys can be skipped without calling {@link Object#equals(Object)}.
+ * <p>
+ * Optionally, {@link String} keys can be compared case-insensitively. The hash code for lookups is then computed from the case-folded code
+ * points of the lookup key, without creating a lower case copy of the lookup key.
+ * <p>
+ * {@code null} keys and values are not supported.
+ *
+ * @author Rob Spoor
+ * @param <K> The type of keys.
+ * @param <V> The type of values.
+ */
+final class LookupMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final boolean caseInsensitive;
+    private final int mask;
+    private final int[] hashes;
+    private final Object[] keys;
+    private final Object[] values;
+    private final int size;
+
+    private Set<Map.Entry<K, V>> entrySet;
+
+    private LookupMap(Map<? extends K, ? extends V> map, boolean caseInsensitive) {
+        this.caseInsensitive = caseInsensitive;
+
+        int capacity = capacity(map.size());
+        this.mask = capacity - 1;
+        this.hashes = new int[capacity];
+        this.keys = new Object[capacity];
+        this.values = new Object[capacity];
+
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            K key = Objects.requireNonNull(entry.getKey());
+            V value = Objects.requireNonNull(entry.getValue());
+            int hash = hash(key);
+            int index = hash & mask;
+            while (keys[index] != null) {
+                if (hashes[index] == hash && keysEqual(keys[index], key)) {
+                    throw new IllegalArgumentException(Messages.LookupMap.duplicateKey(keys[index], key));
+                }
+                index = (index + 1) & mask;
+            }
+            hashes[index] = hash;
+            keys[index] = key;
+            values[index] = value;
+        }
+        this.size = map.size();
+    }
+
+    static <K, V> Map<K, V> of(Map<? extends K, ? extends V> map) {
+        return new LookupMap<>(map, false);
+    }
+
+    static <V> Map<String, V> caseInsensitiveOf(Map<String, ? extends V> map) {
+        return new LookupMap<>(map, true);
+    }
+
+    private static int capacity(int size) {
+        if (size > MAX_CAPACITY / 2) {
+            return MAX_CAPACITY;
+        }
+        // A load factor of at most 0.5 keeps probe sequences short
+        int capacity = 2;
+        while (capacity < size * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private int hash(Object key) {
+        int hash = caseInsensitive ? caseInsensitiveHashCode((String) key) : key.hashCode();
+        // Spread the higher bits, like HashMap, because the capacity is a power of two
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int caseInsensitiveHashCode(String key) {
+        int hash = 0;
+        int length = key.length();
+        for (int i = 0; i < length; ) {
+            int codePoint = key.codePointAt(i);
+            // Fold the same way as String.equalsIgnoreCase
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(codePoint));
+            i += Character.charCount(codePoint);
+        }
+        return hash;
+    }
+
+    private boolean keysEqual(Object storedKey, Object key) {
+        return caseInsensitive ? ((String) storedKey).equalsIgnoreCase((String) key) : storedKey.equals(key);
+    }
+
+    private int indexOf(Object key) {
+        if (key == null || caseInsensitive && !(key instanceof String)) {
+            return -1;
+        }
+        int hash = hash(key);
+        int index = hash & mask;
+        Object storedKey;
+        while ((storedKey = keys[index]) != null) {
+            if (hashes[index] == hash && (storedKey == key || keysEqual(storedKey, key))) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) != -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int index = indexOf(key);
+        return index != -1 ? (V) values[index] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(Object key, V defaultValue) {
+        int index = indexOf(key);
+        return index != -1 ? (V) values[index] : defaultValue;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> result = entrySet;
+        if (result == null) {
+            result = new EntrySet();
+            entrySet = result;
+        }
+        return result;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+
+        private int index = nextIndex(0);
+
+        private int nextIndex(int start) {
+            int i = start;
+            while (i < keys.length && keys[i] == null) {
+                i++;
+            }
+            return i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < keys.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<K, V> entry = new SimpleImmutableEntry<>((K) keys[index], (V) values[index]);
+            index = nextIndex(index + 1);
+            return entry;
+        }
+    }
+}
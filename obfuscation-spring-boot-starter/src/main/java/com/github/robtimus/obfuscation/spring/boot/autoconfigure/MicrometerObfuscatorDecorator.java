@@ -0,0 +1,96 @@
+/*
+ * MicrometerObfuscatorDecorator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.boot.autoconfigure;
+
+import java.util.concurrent.TimeUnit;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.spring.DelegatingObfuscator;
+import com.github.robtimus.obfuscation.spring.ObfuscatorDecorator;
+
+/**
+ * An {@link ObfuscatorDecorator} that records metrics for obfuscation calls in a {@link MeterRegistry}.
+ * <p>
+ * All meters are registered when an obfuscator is decorated, tagged with the obfuscator's name. Obfuscating text only records values in these
+ * meters; it does not look up meters or create tags.
+ *
+ * @author Rob Spoor
+ */
+final class MicrometerObfuscatorDecorator implements ObfuscatorDecorator {
+
+    static final String DURATION_METER = "obfuscation.obfuscator.duration"; //$NON-NLS-1$
+    static final String INPUT_LENGTH_METER = "obfuscation.obfuscator.input.length"; //$NON-NLS-1$
+    static final String OBFUSCATOR_TAG = "obfuscator"; //$NON-NLS-1$
+
+    private final MeterRegistry meterRegistry;
+
+    MicrometerObfuscatorDecorator(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Obfuscator decorate(Obfuscator obfuscator, String name) {
+        Timer timer = Timer.builder(DURATION_METER)
+                .description("The time it takes to obfuscate text") //$NON-NLS-1$
+                .tag(OBFUSCATOR_TAG, name)
+                .register(meterRegistry);
+        DistributionSummary inputLength = DistributionSummary.builder(INPUT_LENGTH_METER)
+                .description("The length of obfuscated text") //$NON-NLS-1$
+                .baseUnit("characters") //$NON-NLS-1$
+                .tag(OBFUSCATOR_TAG, name)
+                .register(meterRegistry);
+        return new MeteredObfuscator(obfuscator, meterRegistry.config().clock(), timer, inputLength);
+    }
+
+    private static final class MeteredObfuscator extends DelegatingObfuscator {
+
+        private final Obfuscator delegate;
+        private final Clock clock;
+        private final Timer timer;
+        private final DistributionSummary inputLength;
+
+        private MeteredObfuscator(Obfuscator delegate, Clock clock, Timer timer, DistributionSummary inputLength) {
+            this.delegate = delegate;
+            this.clock = clock;
+            this.timer = timer;
+            this.inputLength = inputLength;
+        }
+
+        @Override
+        protected Obfuscator delegate() {
+            return delegate;
+        }
+
+        @Override
+        protected long before() {
+            return clock.monotonicTime();
+        }
+
+        @Override
+        protected void after(long start, int length) {
+            timer.record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+            // If the input length is unknown, only the duration is recorded
+            if (length != UNKNOWN_LENGTH) {
+                inputLength.record(length);
+            }
+        }
+    }
+}
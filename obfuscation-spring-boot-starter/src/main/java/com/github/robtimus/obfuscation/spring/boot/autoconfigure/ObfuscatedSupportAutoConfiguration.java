@@ -19,8 +19,10 @@ package com.github.robtimus.obfuscation.spring.boot.autoconfigure;
 
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.EnvironmentAware;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import com.github.robtimus.obfuscation.Obfuscated;
 import com.github.robtimus.obfuscation.spring.ObfuscatedSupportBeanFactoryPostProcessor;
 
@@ -32,10 +34,20 @@ import com.github.robtimus.obfuscation.spring.ObfuscatedSupportBeanFactoryPostPr
 @Configuration
 @ConditionalOnProperty(name = "obfuscation.obfuscated-support.enabled", matchIfMissing = true)
 @SuppressWarnings("javadoc")
-public class ObfuscatedSupportAutoConfiguration {
+public class ObfuscatedSupportAutoConfiguration implements EnvironmentAware {
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
 
     @Bean
     public ObfuscatedSupportBeanFactoryPostProcessor obfuscatedSupportBeanFactoryPostProcessor() {
-        return new ObfuscatedSupportBeanFactoryPostProcessor();
+        ObfuscatedSupportBeanFactoryPostProcessor postProcessor = new ObfuscatedSupportBeanFactoryPostProcessor();
+        postProcessor.setLazy(environment.getProperty("obfuscation.obfuscated-support.lazy", boolean.class, false)); //$NON-NLS-1$
+        postProcessor.setInternValues(environment.getProperty("obfuscation.obfuscated-support.intern-values", boolean.class, false)); //$NON-NLS-1$
+        return postProcessor;
     }
 }
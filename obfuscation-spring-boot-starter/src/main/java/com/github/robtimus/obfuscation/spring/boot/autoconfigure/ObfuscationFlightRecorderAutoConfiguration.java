@@ -0,0 +1,41 @@
+/*
+ * ObfuscationFlightRecorderAutoConfiguration.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.boot.autoconfigure;
+
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.spring.FlightRecorderObfuscatorDecorator;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for emitting JDK Flight Recorder events for {@link Obfuscator} calls.
+ *
+ * @author Rob Spoor
+ */
+@Configuration
+@ConditionalOnProperty(name = "obfuscation.flight-recorder.enabled", havingValue = "true")
+@SuppressWarnings("javadoc")
+public class ObfuscationFlightRecorderAutoConfiguration {
+
+    @Bean
+    public FlightRecorderObfuscatorDecorator flightRecorderObfuscatorDecorator() {
+        return new FlightRecorderObfuscatorDecorator();
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * ObfuscationWarmupAutoConfiguration.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.boot.autoconfigure;
+
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.spring.ObfuscationWarmup;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for resolving and using {@link Obfuscator Obfuscators} before the application is ready.
+ *
+ * @author Rob Spoor
+ */
+@Configuration
+@ConditionalOnProperty(name = "obfuscation.warmup.enabled", havingValue = "true")
+@SuppressWarnings("javadoc")
+public class ObfuscationWarmupAutoConfiguration {
+
+    @Bean
+    public ObfuscationWarmup obfuscationWarmup() {
+        return new ObfuscationWarmup();
+    }
+}
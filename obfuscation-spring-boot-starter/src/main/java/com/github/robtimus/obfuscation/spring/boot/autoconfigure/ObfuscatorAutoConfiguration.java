@@ -20,11 +20,13 @@ package com.github.robtimus.obfuscation.spring.boot.autoconfigure;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import com.github.robtimus.obfuscation.Obfuscator;
 import com.github.robtimus.obfuscation.spring.boot.autoconfigure.ObfuscatorAutoConfiguration.DefaultObfuscatorCondition;
 
@@ -40,22 +42,33 @@ import com.github.robtimus.obfuscation.spring.boot.autoconfigure.ObfuscatorAutoC
 @SuppressWarnings("javadoc")
 public class ObfuscatorAutoConfiguration {
 
+    static final String PREFIX = "obfuscation.default-obfuscator"; //$NON-NLS-1$
+    static final String RELOAD_ENABLED_PROPERTY = "obfuscation.reload.enabled"; //$NON-NLS-1$
+
     @Bean
-    @ConfigurationProperties("obfuscation.default-obfuscator")
+    @ConfigurationProperties(PREFIX)
     public ObfuscatorProperties defaultObfuscatorProperties() {
         return new ObfuscatorProperties();
     }
 
     @Bean
+    @ConditionalOnProperty(name = RELOAD_ENABLED_PROPERTY, havingValue = "false", matchIfMissing = true)
     public Obfuscator defaultObfuscator(AutowireCapableBeanFactory beanFactory) {
         ObfuscatorProperties properties = defaultObfuscatorProperties();
         return properties.createObfuscator(beanFactory);
     }
 
+    @Bean
+    @ConditionalOnProperty(name = RELOAD_ENABLED_PROPERTY, havingValue = "true")
+    public ReloadableObfuscator reloadableDefaultObfuscator(AutowireCapableBeanFactory beanFactory, Environment environment) {
+        ObfuscatorProperties properties = defaultObfuscatorProperties();
+        return new ReloadableObfuscator(properties, PREFIX, environment, beanFactory);
+    }
+
     static final class DefaultObfuscatorCondition extends ObfuscatorPropertiesCondition {
 
         private DefaultObfuscatorCondition() {
-            super("obfuscation.default-obfuscator"); //$NON-NLS-1$
+            super(PREFIX);
         }
     }
 }
@@ -22,38 +22,58 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 import jakarta.validation.Constraint;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import jakarta.validation.Payload;
 import jakarta.validation.constraints.Min;
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.util.ClassUtils;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
 import org.springframework.validation.annotation.Validated;
 import com.github.robtimus.obfuscation.Obfuscator;
 import com.github.robtimus.obfuscation.annotation.ObfuscatorProvider;
 import com.github.robtimus.obfuscation.annotation.ObjectFactory;
 import com.github.robtimus.obfuscation.spring.BeanFactoryObjectFactory;
+import com.github.robtimus.obfuscation.spring.ObfuscatorDecorator;
 import com.github.robtimus.obfuscation.spring.boot.autoconfigure.ObfuscatorProperties.ValidObfuscatorProperties;
 
 /**
  * Properties for {@link Obfuscator Obfuscators}.
+ * <p>
+ * Instances of this class validate themselves when they are bound as configuration properties, without the need for Bean Validation.
+ * The same rules are available for Bean Validation through {@link ValidObfuscatorProperties}, for instance when an instance of this class is
+ * nested inside another configuration properties class and annotated with {@link jakarta.validation.Valid @Valid}.
  *
  * @author Rob Spoor
  */
-@Validated
 @ValidObfuscatorProperties
 @SuppressWarnings("javadoc")
-public class ObfuscatorProperties {
+public class ObfuscatorProperties implements Validator {
+
+    static final String CREATE_OBFUSCATOR_STEP = "obfuscation.properties.create-obfuscator"; //$NON-NLS-1$
+
+    private static final boolean BEAN_VALIDATION_PRESENT = ClassUtils.isPresent("jakarta.validation.Validator", //$NON-NLS-1$
+            ObfuscatorProperties.class.getClassLoader());
 
     private static final String FIELD_MODE = "mode"; //$NON-NLS-1$
     private static final String FIELD_MASK_CHAR = "maskChar"; //$NON-NLS-1$
@@ -222,6 +242,8 @@ public class ObfuscatorProperties {
 
     /**
      * Creates an obfuscator based on the properties configured in this object.
+     * If the given bean factory contains any {@link ObfuscatorDecorator} beans, these are used to decorate the created obfuscator, using the
+     * obfuscation mode as name.
      *
      * @param beanFactory A bean factory to use to create instances of {@link ObfuscatorProvider} if needed.
      * @return The created obfuscator.
@@ -230,7 +252,7 @@ public class ObfuscatorProperties {
      */
     public Obfuscator createObfuscator(AutowireCapableBeanFactory beanFactory) {
         ObjectFactory objectFactory = new BeanFactoryObjectFactory(beanFactory);
-        return createObfuscator(objectFactory);
+        return createObfuscator(objectFactory, decorator(beanFactory), applicationStartup(beanFactory), null, null);
     }
 
     /**
@@ -247,8 +269,59 @@ public class ObfuscatorProperties {
         return obfuscationMode.factory.apply(this, objectFactory);
     }
 
+    private Obfuscator createObfuscator(ObjectFactory objectFactory, ObfuscatorDecorator decorator, ApplicationStartup applicationStartup,
+            String name, Map<ObfuscatorSettings, SharedObfuscator> sharedObfuscators) {
+
+        ObfuscationMode obfuscationMode = determineObfuscationMode();
+        String decoratorName = name != null ? name : obfuscationMode.name();
+        if (sharedObfuscators == null) {
+            return decorator.decorate(createObfuscator(objectFactory, applicationStartup, obfuscationMode), decoratorName);
+        }
+        SharedObfuscator shared = sharedObfuscators.computeIfAbsent(new ObfuscatorSettings(this, obfuscationMode),
+                k -> new SharedObfuscator(createObfuscator(objectFactory, applicationStartup, obfuscationMode)));
+        // Properties objects with the same settings and name share the same decorated obfuscator
+        return shared.decorated.computeIfAbsent(decoratorName, n -> decorator.decorate(shared.obfuscator, n));
+    }
+
+    private Obfuscator createObfuscator(ObjectFactory objectFactory, ApplicationStartup applicationStartup, ObfuscationMode obfuscationMode) {
+        StartupStep step = applicationStartup.start(CREATE_OBFUSCATOR_STEP);
+        try {
+            step.tag("mode", obfuscationMode::name); //$NON-NLS-1$
+            if (obfuscationMode == ObfuscationMode.PROVIDER && providerClass != null) {
+                step.tag(FIELD_PROVIDER_CLASS, providerClass::getName);
+            }
+            // Call createObfuscator(ObjectFactory), as sub classes may override it
+            return createObfuscator(objectFactory);
+        } finally {
+            step.end();
+        }
+    }
+
+    private Obfuscator createSharedObfuscator(ObjectFactory objectFactory, Map<ObfuscatorSettings, Obfuscator> sharedObfuscators) {
+        // Call createObfuscator(ObjectFactory), as sub classes may override it
+        return sharedObfuscators.computeIfAbsent(new ObfuscatorSettings(this, determineObfuscationMode()), k -> createObfuscator(objectFactory));
+    }
+
+    private static ObfuscatorDecorator decorator(AutowireCapableBeanFactory beanFactory) {
+        // Look up the decorators only once, not for each created obfuscator
+        return beanFactory instanceof ListableBeanFactory listableBeanFactory
+                ? ObfuscatorDecorator.fromBeans(listableBeanFactory)
+                : (obfuscator, name) -> obfuscator;
+    }
+
+    private static ApplicationStartup applicationStartup(AutowireCapableBeanFactory beanFactory) {
+        return beanFactory instanceof ConfigurableBeanFactory configurableBeanFactory
+                ? configurableBeanFactory.getApplicationStartup()
+                : ApplicationStartup.DEFAULT;
+    }
+
     /**
      * Creates obfuscators based on the properties configured in multiple properties objects.
+     * If the given bean factory contains any {@link ObfuscatorDecorator} beans, these are used to decorate the created obfuscators, using the
+     * obfuscation modes as names.
+     * <p>
+     * Properties objects with the same effective settings share the same obfuscator. If any {@link ObfuscatorDecorator} beans are present,
+     * properties objects with the same effective settings and name share the same decorated obfuscator.
      *
      * @param properties A collection of properties objects for which to create obfuscators.
      * @param beanFactory A bean factory to use to create instances of {@link ObfuscatorProvider} if needed.
@@ -258,11 +331,17 @@ public class ObfuscatorProperties {
      */
     public static List<Obfuscator> createObfuscators(Collection<ObfuscatorProperties> properties, AutowireCapableBeanFactory beanFactory) {
         ObjectFactory objectFactory = new BeanFactoryObjectFactory(beanFactory);
-        return createObfuscators(properties, objectFactory);
+        ObfuscatorDecorator decorator = decorator(beanFactory);
+        ApplicationStartup applicationStartup = applicationStartup(beanFactory);
+        Map<ObfuscatorSettings, SharedObfuscator> sharedObfuscators = new HashMap<>();
+        return properties.stream()
+                .map(p -> p.createObfuscator(objectFactory, decorator, applicationStartup, null, sharedObfuscators))
+                .toList();
     }
 
     /**
      * Creates obfuscators based on the properties configured in multiple properties objects.
+     * Properties objects with the same effective settings share the same obfuscator.
      *
      * @param properties A collection of properties objects for which to create obfuscators.
      * @param objectFactory The object factory to use to create instances of {@link ObfuscatorProvider} if needed.
@@ -272,13 +351,19 @@ public class ObfuscatorProperties {
      */
     public static List<Obfuscator> createObfuscators(Collection<ObfuscatorProperties> properties, ObjectFactory objectFactory) {
         Objects.requireNonNull(objectFactory);
+        Map<ObfuscatorSettings, Obfuscator> sharedObfuscators = new HashMap<>();
         return properties.stream()
-                .map(p -> p.createObfuscator(objectFactory))
+                .map(p -> p.createSharedObfuscator(objectFactory, sharedObfuscators))
                 .toList();
     }
 
     /**
      * Creates obfuscators based on the properties configured in multiple properties objects.
+     * If the given bean factory contains any {@link ObfuscatorDecorator} beans, these are used to decorate the created obfuscators, using the
+     * obfuscation modes as names.
+     * <p>
+     * Properties objects with the same effective settings share the same obfuscator. If any {@link ObfuscatorDecorator} beans are present,
+     * properties objects with the same effective settings and name share the same decorated obfuscator.
      *
      * @param <K> The map key type.
      * @param properties A map with properties objects for which to create obfuscators.
@@ -291,12 +376,54 @@ public class ObfuscatorProperties {
     public static <K> Map<K, Obfuscator> createObfuscators(Map<? extends K, ObfuscatorProperties> properties,
             AutowireCapableBeanFactory beanFactory) {
 
+        return createObfuscators(properties, beanFactory, null, false);
+    }
+
+    /**
+     * Creates obfuscators based on the properties configured in multiple properties objects.
+     * If the given bean factory contains any {@link ObfuscatorDecorator} beans, these are used to decorate the created obfuscators, using the
+     * names returned by the given function.
+     * <p>
+     * Decorators can use the names to create resources like metrics per name. The function should therefore return a limited number of
+     * distinct names, even for large maps. For instance, a function that returns the map keys is only suitable for small maps of known keys.
+     * <p>
+     * Properties objects with the same effective settings share the same obfuscator. If any {@link ObfuscatorDecorator} beans are present,
+     * properties objects with the same effective settings and name share the same decorated obfuscator.
+     *
+     * @param <K> The map key type.
+     * @param properties A map with properties objects for which to create obfuscators.
+     * @param beanFactory A bean factory to use to create instances of {@link ObfuscatorProvider} if needed.
+     * @param decoratorNames A function that returns the name to decorate the obfuscator for a map key with.
+     * @return The created obfuscators.
+     * @throws NullPointerException If the given map, any of its values, the given bean factory or the given function is {@code null},
+     *                                  or if the function returns {@code null}.
+     * @throws IllegalStateException If any of the properties objects is in an inconsistent state.
+     * @since 3.1
+     */
+    public static <K> Map<K, Obfuscator> createObfuscators(Map<? extends K, ObfuscatorProperties> properties,
+            AutowireCapableBeanFactory beanFactory, Function<? super K, String> decoratorNames) {
+
+        return createObfuscators(properties, beanFactory, Objects.requireNonNull(decoratorNames), true);
+    }
+
+    private static <K> Map<K, Obfuscator> createObfuscators(Map<? extends K, ObfuscatorProperties> properties,
+            AutowireCapableBeanFactory beanFactory, Function<? super K, String> decoratorNames, boolean useDecoratorNames) {
+
         ObjectFactory objectFactory = new BeanFactoryObjectFactory(beanFactory);
-        return createObfuscators(properties, objectFactory);
+        ObfuscatorDecorator decorator = decorator(beanFactory);
+        ApplicationStartup applicationStartup = applicationStartup(beanFactory);
+        Map<ObfuscatorSettings, SharedObfuscator> sharedObfuscators = new HashMap<>();
+        Map<K, Obfuscator> obfuscators = new HashMap<>();
+        properties.forEach((k, p) -> {
+            String name = useDecoratorNames ? Objects.requireNonNull(decoratorNames.apply(k)) : null;
+            obfuscators.put(k, p.createObfuscator(objectFactory, decorator, applicationStartup, name, sharedObfuscators));
+        });
+        return obfuscators;
     }
 
     /**
      * Creates obfuscators based on the properties configured in multiple properties objects.
+     * Properties objects with the same effective settings share the same obfuscator.
      *
      * @param <K> The map key type.
      * @param properties A map with properties objects for which to create obfuscators.
@@ -308,10 +435,55 @@ public class ObfuscatorProperties {
      */
     public static <K> Map<K, Obfuscator> createObfuscators(Map<? extends K, ObfuscatorProperties> properties, ObjectFactory objectFactory) {
         Objects.requireNonNull(objectFactory);
-        return properties.entrySet()
-                .stream()
-                // The map's own keys are used as map keys, so no risk of IllegalStateExceptions
-                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().createObfuscator(objectFactory)));
+        Map<ObfuscatorSettings, Obfuscator> sharedObfuscators = new HashMap<>();
+        Map<K, Obfuscator> obfuscators = new HashMap<>();
+        properties.forEach((k, p) -> obfuscators.put(k, p.createSharedObfuscator(objectFactory, sharedObfuscators)));
+        return obfuscators;
+    }
+
+    /**
+     * Creates an immutable lookup map of obfuscators based on the properties configured in multiple properties objects.
+     * This method creates the same obfuscators as {@link #createObfuscators(Map, AutowireCapableBeanFactory)}, but the returned map is
+     * optimized for lookups. It uses less memory than a {@link java.util.HashMap}, and should be preferred for maps that are queried often,
+     * for instance for each field of each obfuscated object.
+     *
+     * @param <K> The map key type.
+     * @param properties A map with properties objects for which to create obfuscators.
+     * @param beanFactory A bean factory to use to create instances of {@link ObfuscatorProvider} if needed.
+     * @return An immutable map with the created obfuscators.
+     * @throws NullPointerException If the given map, any of its keys or values, or the given bean factory is {@code null}.
+     * @throws IllegalStateException If any of the properties objects is in an inconsistent state.
+     * @since 3.1
+     */
+    public static <K> Map<K, Obfuscator> createObfuscatorLookup(Map<? extends K, ObfuscatorProperties> properties,
+            AutowireCapableBeanFactory beanFactory) {
+
+        return LookupMap.of(createObfuscators(properties, beanFactory));
+    }
+
+    /**
+     * Creates an immutable lookup map of obfuscators based on the properties configured in multiple properties objects.
+     * This method creates the same obfuscators as {@link #createObfuscators(Map, AutowireCapableBeanFactory)}, but the returned map is
+     * optimized for lookups, and its keys are case-insensitive. This is useful for obfuscating field names or header names, as lookup keys do
+     * not need to be converted to lower case first.
+     *
+     * @param properties A map with properties objects for which to create obfuscators.
+     * @param beanFactory A bean factory to use to create instances of {@link ObfuscatorProvider} if needed.
+     * @return An immutable map with the created obfuscators.
+     * @throws NullPointerException If the given map, any of its keys or values, or the given bean factory is {@code null}.
+     * @throws IllegalArgumentException If the given map contains keys that only differ in case.
+     * @throws IllegalStateException If any of the properties objects is in an inconsistent state.
+     * @since 3.1
+     */
+    public static Map<String, Obfuscator> createCaseInsensitiveObfuscatorLookup(Map<String, ObfuscatorProperties> properties,
+            AutowireCapableBeanFactory beanFactory) {
+
+        return LookupMap.caseInsensitiveOf(createObfuscators(properties, beanFactory));
+    }
+
+    // Returns a snapshot; later changes to this properties object are not reflected in the returned settings
+    ObfuscatorSettings settings() {
+        return new ObfuscatorSettings(this, determineObfuscationMode());
     }
 
     ObfuscationMode determineObfuscationMode() {
@@ -368,15 +540,24 @@ public class ObfuscatorProperties {
 
     private Obfuscator createPortionObfuscator() {
         return Obfuscator.portion()
-                .keepAtStart(keepAtStart != null ? keepAtStart : 0)
-                .keepAtEnd(keepAtEnd != null ? keepAtEnd : 0)
-                .atLeastFromStart(atLeastFromStart != null ? atLeastFromStart : 0)
-                .atLeastFromEnd(atLeastFromEnd != null ? atLeastFromEnd : 0)
-                .withFixedTotalLength(fixedTotalLength != null ? fixedTotalLength : -1)
+                .keepAtStart(valueOrDefault(keepAtStart, 0))
+                .keepAtEnd(valueOrDefault(keepAtEnd, 0))
+                .atLeastFromStart(valueOrDefault(atLeastFromStart, 0))
+                .atLeastFromEnd(valueOrDefault(atLeastFromEnd, 0))
+                .withFixedTotalLength(valueOrDefault(fixedTotalLength, -1))
                 .withMaskChar(maskChar())
                 .build();
     }
 
+    private List<Object> portionSettings() {
+        return List.of(valueOrDefault(keepAtStart, 0), valueOrDefault(keepAtEnd, 0), valueOrDefault(atLeastFromStart, 0),
+                valueOrDefault(atLeastFromEnd, 0), valueOrDefault(fixedTotalLength, -1), maskChar());
+    }
+
+    private static int valueOrDefault(Integer value, int defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
     private Obfuscator createObfuscatorFromProvider(ObjectFactory objectFactory) {
         Class<? extends ObfuscatorProvider> obfuscatorProviderClass = obfuscatorProviderClass();
         ObfuscatorProvider obfuscatorProvider = objectFactory.obfuscatorProvider(obfuscatorProviderClass);
@@ -390,6 +571,230 @@ public class ObfuscatorProperties {
         return providerClass;
     }
 
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return ObfuscatorProperties.class.isAssignableFrom(clazz);
+    }
+
+    /**
+     * Validates an {@link ObfuscatorProperties} object.
+     * This applies the same rules as {@link ValidObfuscatorProperties} and the field constraints, without the need for Bean Validation.
+     * <p>
+     * If the object's class is annotated with {@link Validated @Validated} and Bean Validation is available, this method does nothing.
+     * Spring Boot validates such objects using Bean Validation, which already applies the same rules.
+     *
+     * @param target The {@link ObfuscatorProperties} object to validate.
+     * @param errors The errors object to register validation errors with.
+     */
+    @Override
+    public void validate(Object target, Errors errors) {
+        if (BEAN_VALIDATION_PRESENT && AnnotatedElementUtils.hasAnnotation(target.getClass(), Validated.class)) {
+            return;
+        }
+        validateProperties((ObfuscatorProperties) target, errors);
+    }
+
+    private static void validateProperties(ObfuscatorProperties properties, Errors errors) {
+        validateNotNegative(properties.getFixedLength(), FIELD_FIXED_LENGTH, errors);
+        validateNotNegative(properties.getKeepAtStart(), FIELD_KEEP_AT_START, errors);
+        validateNotNegative(properties.getKeepAtEnd(), FIELD_KEEP_AT_END, errors);
+        validateNotNegative(properties.getAtLeastFromStart(), FIELD_AT_LEAST_FROM_START, errors);
+        validateNotNegative(properties.getAtLeastFromEnd(), FIELD_AT_LEAST_FROM_END, errors);
+
+        properties.validate(new ErrorsViolations(errors));
+    }
+
+    // Used for properties that are bound without @ConfigurationProperties, which does not validate them
+    void validate(String prefix) {
+        BeanPropertyBindingResult errors = new BeanPropertyBindingResult(this, prefix);
+        // Bean Validation is not applied here, so always validate, even if this class is annotated with @Validated
+        validateProperties(this, errors);
+        if (errors.hasErrors()) {
+            throw new IllegalStateException(Messages.ObfuscatorProperties.invalidProperties(prefix, errors.getAllErrors()));
+        }
+    }
+
+    private static void validateNotNegative(Integer value, String fieldName, Errors errors) {
+        if (value != null && value < 0) {
+            // Use the same error code and arguments as Bean Validation's @Min(0)
+            errors.rejectValue(fieldName, "Min", new Object[] { 0 }, Messages.ObfuscatorProperties.negative()); //$NON-NLS-1$
+        }
+    }
+
+    private boolean validate(Violations violations) {
+        Set<ObfuscationMode> obfuscationModes = determineObfuscationModes();
+        if (obfuscationModes.isEmpty()) {
+            violations.invalidMode(Messages.ObfuscatorProperties.noObfuscationModes());
+            return false;
+        }
+        if (obfuscationModes.size() > 1) {
+            violations.invalidMode(Messages.ObfuscatorProperties.multipleObfuscationModes());
+            return false;
+        }
+        ObfuscationMode obfuscationMode = obfuscationModes.iterator().next();
+        return obfuscationMode.validator.test(this, violations);
+    }
+
+    private static boolean isValidForAll(ObfuscatorProperties properties, Violations violations) {
+        boolean valid = true;
+        // No required properties
+        // Forbidden properties:
+        valid &= fixedLengthNotSet(properties, violations);
+        valid &= fixedValueNotSet(properties, violations);
+        valid &= portionFieldsNotSet(properties, violations);
+        valid &= providerClassNotSet(properties, violations);
+        return valid;
+    }
+
+    private static boolean isValidForNone(ObfuscatorProperties properties, Violations violations) {
+        boolean valid = true;
+        // No required properties
+        // Forbidden properties:
+        valid &= maskCharNotSet(properties, violations);
+        valid &= fixedLengthNotSet(properties, violations);
+        valid &= fixedValueNotSet(properties, violations);
+        valid &= portionFieldsNotSet(properties, violations);
+        valid &= providerClassNotSet(properties, violations);
+        return valid;
+    }
+
+    private static boolean isValidForFixedLength(ObfuscatorProperties properties, Violations violations) {
+        boolean valid = true;
+        // Required properties:
+        valid &= fixedLengthSet(properties, violations);
+        // Forbidden properties:
+        valid &= fixedValueNotSet(properties, violations);
+        valid &= portionFieldsNotSet(properties, violations);
+        valid &= providerClassNotSet(properties, violations);
+        return valid;
+    }
+
+    private static boolean isValidForFixedValue(ObfuscatorProperties properties, Violations violations) {
+        boolean valid = true;
+        // Required properties:
+        valid &= fixedValueSet(properties, violations);
+        // Forbidden properties:
+        valid &= maskCharNotSet(properties, violations);
+        valid &= fixedLengthNotSet(properties, violations);
+        valid &= portionFieldsNotSet(properties, violations);
+        valid &= providerClassNotSet(properties, violations);
+        return valid;
+    }
+
+    private static boolean isValidForPortion(ObfuscatorProperties properties, Violations violations) {
+        boolean valid = true;
+        // No required properties
+        // Forbidden properties:
+        valid &= fixedLengthNotSet(properties, violations);
+        valid &= fixedValueNotSet(properties, violations);
+        valid &= providerClassNotSet(properties, violations);
+        return valid;
+    }
+
+    private static boolean isValidForClass(ObfuscatorProperties properties, Violations violations) {
+        boolean valid = true;
+        // Required properties:
+        valid &= providerClassSet(properties, violations);
+        // Forbidden properties:
+        valid &= maskCharNotSet(properties, violations);
+        valid &= fixedLengthNotSet(properties, violations);
+        valid &= fixedValueNotSet(properties, violations);
+        valid &= portionFieldsNotSet(properties, violations);
+        return valid;
+    }
+
+    // Forbidden checks
+
+    private static boolean maskCharNotSet(ObfuscatorProperties properties, Violations violations) {
+        return isNotSet(properties.getMaskChar(), FIELD_MASK_CHAR, violations);
+    }
+
+    private static boolean fixedLengthNotSet(ObfuscatorProperties properties, Violations violations) {
+        return isNotSet(properties.getFixedLength(), FIELD_FIXED_LENGTH, violations);
+    }
+
+    private static boolean fixedValueNotSet(ObfuscatorProperties properties, Violations violations) {
+        return isNotSet(properties.getFixedValue(), FIELD_FIXED_VALUE, violations);
+    }
+
+    private static boolean portionFieldsNotSet(ObfuscatorProperties properties, Violations violations) {
+        boolean valid = true;
+        valid &= isNotSet(properties.getKeepAtStart(), FIELD_KEEP_AT_START, violations);
+        valid &= isNotSet(properties.getKeepAtEnd(), FIELD_KEEP_AT_END, violations);
+        valid &= isNotSet(properties.getAtLeastFromStart(), FIELD_AT_LEAST_FROM_START, violations);
+        valid &= isNotSet(properties.getAtLeastFromEnd(), FIELD_AT_LEAST_FROM_END, violations);
+        valid &= isNotSet(properties.getFixedTotalLength(), FIELD_FIXED_TOTAL_LENGTH, violations);
+        return valid;
+    }
+
+    private static boolean providerClassNotSet(ObfuscatorProperties properties, Violations violations) {
+        return isNotSet(properties.getProviderClass(), FIELD_PROVIDER_CLASS, violations);
+    }
+
+    private static boolean isNotSet(Object value, String fieldName, Violations violations) {
+        if (value != null) {
+            violations.mustBeNull(fieldName);
+            return false;
+        }
+        return true;
+    }
+
+    // Required checks
+
+    private static boolean fixedLengthSet(ObfuscatorProperties properties, Violations violations) {
+        return isSet(properties.getFixedLength(), FIELD_FIXED_LENGTH, violations);
+    }
+
+    private static boolean fixedValueSet(ObfuscatorProperties properties, Violations violations) {
+        return isSet(properties.getFixedValue(), FIELD_FIXED_VALUE, violations);
+    }
+
+    private static boolean providerClassSet(ObfuscatorProperties properties, Violations violations) {
+        return isSet(properties.getProviderClass(), FIELD_PROVIDER_CLASS, violations);
+    }
+
+    private static boolean isSet(Object value, String fieldName, Violations violations) {
+        if (value == null) {
+            violations.mustNotBeNull(fieldName);
+            return false;
+        }
+        return true;
+    }
+
+    // Receives validation violations, so the same rules can be applied with and without Bean Validation
+    private interface Violations {
+
+        void invalidMode(String message);
+
+        void mustBeNull(String fieldName);
+
+        void mustNotBeNull(String fieldName);
+    }
+
+    private static final class ErrorsViolations implements Violations {
+
+        private final Errors errors;
+
+        private ErrorsViolations(Errors errors) {
+            this.errors = errors;
+        }
+
+        @Override
+        public void invalidMode(String message) {
+            errors.rejectValue(FIELD_MODE, ValidObfuscatorProperties.class.getSimpleName(), message);
+        }
+
+        @Override
+        public void mustBeNull(String fieldName) {
+            errors.rejectValue(fieldName, "Null", Messages.ObfuscatorProperties.mustBeNull()); //$NON-NLS-1$
+        }
+
+        @Override
+        public void mustNotBeNull(String fieldName) {
+            errors.rejectValue(fieldName, "NotNull", Messages.ObfuscatorProperties.mustNotBeNull()); //$NON-NLS-1$
+        }
+    }
+
     /**
      * The supported obfuscation modes.
      *
@@ -397,32 +802,81 @@ public class ObfuscatorProperties {
      */
     public enum ObfuscationMode {
         /** Indicates {@link Obfuscator#all(char)} should be used. */
-        ALL((p, f) -> Obfuscator.all(p.maskChar()), ObfuscatorPropertiesValidator::isValidForAll),
+        ALL((p, f) -> Obfuscator.all(p.maskChar()), ObfuscatorProperties::isValidForAll, p -> List.of(p.maskChar())),
 
         /** Indicates {@link Obfuscator#none()} should be used. */
-        NONE((p, f) -> Obfuscator.none(), ObfuscatorPropertiesValidator::isValidForNone),
+        NONE((p, f) -> Obfuscator.none(), ObfuscatorProperties::isValidForNone, p -> List.of()),
 
         /** Indicates {@link Obfuscator#fixedLength(int, char)} should be used. */
-        FIXED_LENGTH((p, f) -> Obfuscator.fixedLength(p.fixedLength(), p.maskChar()), ObfuscatorPropertiesValidator::isValidForFixedLength),
+        FIXED_LENGTH((p, f) -> Obfuscator.fixedLength(p.fixedLength(), p.maskChar()), ObfuscatorProperties::isValidForFixedLength,
+                p -> Arrays.asList(p.fixedLength, p.maskChar())),
 
         /** Indicates {@link Obfuscator#fixedValue(String)} should be used. */
-        FIXED_VALUE((p, f) -> Obfuscator.fixedValue(p.fixedValue()), ObfuscatorPropertiesValidator::isValidForFixedValue),
+        FIXED_VALUE((p, f) -> Obfuscator.fixedValue(p.fixedValue()), ObfuscatorProperties::isValidForFixedValue, p -> Arrays.asList(p.fixedValue)),
 
         /** Indicates {@link Obfuscator#portion()} should be used. */
-        PORTION((p, f) -> p.createPortionObfuscator(), ObfuscatorPropertiesValidator::isValidForPortion),
+        PORTION((p, f) -> p.createPortionObfuscator(), ObfuscatorProperties::isValidForPortion, ObfuscatorProperties::portionSettings),
 
         /** Indicates a custom {@link ObfuscatorProvider} should be used. */
-        PROVIDER((p, f) -> p.createObfuscatorFromProvider(f), ObfuscatorPropertiesValidator::isValidForClass),
+        PROVIDER((p, f) -> p.createObfuscatorFromProvider(f), ObfuscatorProperties::isValidForClass, p -> Arrays.asList(p.providerClass)),
         ;
 
         private final BiFunction<ObfuscatorProperties, ObjectFactory, Obfuscator> factory;
-        private final BiPredicate<ObfuscatorProperties, ConstraintValidatorContext> validator;
+        private final BiPredicate<ObfuscatorProperties, Violations> validator;
+        // The settings that are used by the factory
+        private final Function<ObfuscatorProperties, List<?>> settings;
 
         ObfuscationMode(BiFunction<ObfuscatorProperties, ObjectFactory, Obfuscator> factory,
-                BiPredicate<ObfuscatorProperties, ConstraintValidatorContext> validator) {
+                BiPredicate<ObfuscatorProperties, Violations> validator,
+                Function<ObfuscatorProperties, List<?>> settings) {
 
             this.factory = factory;
             this.validator = validator;
+            this.settings = settings;
+        }
+    }
+
+    // The effective settings of an ObfuscatorProperties object; objects with equal settings create equal obfuscators.
+    // All values are immutable, so instances are immutable as well.
+    static final class ObfuscatorSettings {
+
+        // Sub classes can override createObfuscator(ObjectFactory), so different classes cannot share obfuscators
+        private final Class<?> type;
+        private final ObfuscationMode mode;
+        private final List<?> values;
+
+        private ObfuscatorSettings(ObfuscatorProperties properties, ObfuscationMode mode) {
+            this.type = properties.getClass();
+            this.mode = mode;
+            this.values = mode.settings.apply(properties);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || o.getClass() != getClass()) {
+                return false;
+            }
+            ObfuscatorSettings other = (ObfuscatorSettings) o;
+            return type == other.type && mode == other.mode && values.equals(other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, mode, values);
+        }
+    }
+
+    private static final class SharedObfuscator {
+
+        private final Obfuscator obfuscator;
+        // Keyed by decorator name
+        private final Map<String, Obfuscator> decorated = new HashMap<>();
+
+        private SharedObfuscator(Obfuscator obfuscator) {
+            this.obfuscator = obfuscator;
         }
     }
 
@@ -455,152 +909,37 @@ public class ObfuscatorProperties {
         @Override
         public boolean isValid(ObfuscatorProperties properties, ConstraintValidatorContext context) {
             context.disableDefaultConstraintViolation();
-
-            Set<ObfuscationMode> obfuscationModes = properties.determineObfuscationModes();
-            if (obfuscationModes.isEmpty()) {
-                context.buildConstraintViolationWithTemplate(Messages.ObfuscatorProperties.noObfuscationModes())
-                        .addPropertyNode(FIELD_MODE)
-                        .addConstraintViolation();
-                return false;
-            }
-            if (obfuscationModes.size() > 1) {
-                context.buildConstraintViolationWithTemplate(Messages.ObfuscatorProperties.multipleObfuscationModes())
-                        .addPropertyNode(FIELD_MODE)
-                        .addConstraintViolation();
-                return false;
-            }
-            ObfuscationMode obfuscationMode = obfuscationModes.iterator().next();
-            return obfuscationMode.validator.test(properties, context);
-        }
-
-        private static boolean isValidForAll(ObfuscatorProperties properties, ConstraintValidatorContext context) {
-            boolean valid = true;
-            // No required properties
-            // Forbidden properties:
-            valid &= fixedLengthNotSet(properties, context);
-            valid &= fixedValueNotSet(properties, context);
-            valid &= portionFieldsNotSet(properties, context);
-            valid &= providerClassNotSet(properties, context);
-            return valid;
-        }
-
-        private static boolean isValidForNone(ObfuscatorProperties properties, ConstraintValidatorContext context) {
-            boolean valid = true;
-            // No required properties
-            // Forbidden properties:
-            valid &= maskCharNotSet(properties, context);
-            valid &= fixedLengthNotSet(properties, context);
-            valid &= fixedValueNotSet(properties, context);
-            valid &= portionFieldsNotSet(properties, context);
-            valid &= providerClassNotSet(properties, context);
-            return valid;
-        }
-
-        private static boolean isValidForFixedLength(ObfuscatorProperties properties, ConstraintValidatorContext context) {
-            boolean valid = true;
-            // Required properties:
-            valid &= fixedLengthSet(properties, context);
-            // Forbidden properties:
-            valid &= fixedValueNotSet(properties, context);
-            valid &= portionFieldsNotSet(properties, context);
-            valid &= providerClassNotSet(properties, context);
-            return valid;
-        }
-
-        private static boolean isValidForFixedValue(ObfuscatorProperties properties, ConstraintValidatorContext context) {
-            boolean valid = true;
-            // Required properties:
-            valid &= fixedValueSet(properties, context);
-            // Forbidden properties:
-            valid &= maskCharNotSet(properties, context);
-            valid &= fixedLengthNotSet(properties, context);
-            valid &= portionFieldsNotSet(properties, context);
-            valid &= providerClassNotSet(properties, context);
-            return valid;
-        }
-
-        private static boolean isValidForPortion(ObfuscatorProperties properties, ConstraintValidatorContext context) {
-            boolean valid = true;
-            // No required properties
-            // Forbidden properties:
-            valid &= fixedLengthNotSet(properties, context);
-            valid &= fixedValueNotSet(properties, context);
-            valid &= providerClassNotSet(properties, context);
-            return valid;
-        }
-
-        private static boolean isValidForClass(ObfuscatorProperties properties, ConstraintValidatorContext context) {
-            boolean valid = true;
-            // Required properties:
-            valid &= providerClassSet(properties, context);
-            // Forbidden properties:
-            valid &= maskCharNotSet(properties, context);
-            valid &= fixedLengthNotSet(properties, context);
-            valid &= fixedValueNotSet(properties, context);
-            valid &= portionFieldsNotSet(properties, context);
-            return valid;
-        }
-
-        // Forbidden checks
-
-        private static boolean maskCharNotSet(ObfuscatorProperties properties, ConstraintValidatorContext context) {
-            return isNotSet(properties.getMaskChar(), FIELD_MASK_CHAR, context);
-        }
-
-        private static boolean fixedLengthNotSet(ObfuscatorProperties properties, ConstraintValidatorContext context) {
-            return isNotSet(properties.getFixedLength(), FIELD_FIXED_LENGTH, context);
-        }
-
-        private static boolean fixedValueNotSet(ObfuscatorProperties properties, ConstraintValidatorContext context) {
-            return isNotSet(properties.getFixedValue(), FIELD_FIXED_VALUE, context);
-        }
-
-        private static boolean portionFieldsNotSet(ObfuscatorProperties properties, ConstraintValidatorContext context) {
-            boolean valid = true;
-            valid &= isNotSet(properties.getKeepAtStart(), FIELD_KEEP_AT_START, context);
-            valid &= isNotSet(properties.getKeepAtEnd(), FIELD_KEEP_AT_END, context);
-            valid &= isNotSet(properties.getAtLeastFromStart(), FIELD_AT_LEAST_FROM_START, context);
-            valid &= isNotSet(properties.getAtLeastFromEnd(), FIELD_AT_LEAST_FROM_END, context);
-            valid &= isNotSet(properties.getFixedTotalLength(), FIELD_FIXED_TOTAL_LENGTH, context);
-            return valid;
-        }
-
-        private static boolean providerClassNotSet(ObfuscatorProperties properties, ConstraintValidatorContext context) {
-            return isNotSet(properties.getProviderClass(), FIELD_PROVIDER_CLASS, context);
-        }
-
-        private static boolean isNotSet(Object value, String fieldName, ConstraintValidatorContext context) {
-            if (value != null) {
-                context.buildConstraintViolationWithTemplate("{jakarta.validation.constraints.Null.message}") //$NON-NLS-1$
-                        .addPropertyNode(fieldName)
-                        .addConstraintViolation();
-                return false;
-            }
-            return true;
+            return properties.validate(new ConstraintViolations(context));
         }
+    }
 
-        // Required checks
+    private static final class ConstraintViolations implements Violations {
 
-        private static boolean fixedLengthSet(ObfuscatorProperties properties, ConstraintValidatorContext context) {
-            return isSet(properties.getFixedLength(), FIELD_FIXED_LENGTH, context);
+        private final ConstraintValidatorContext context;
+
+        private ConstraintViolations(ConstraintValidatorContext context) {
+            this.context = context;
         }
 
-        private static boolean fixedValueSet(ObfuscatorProperties properties, ConstraintValidatorContext context) {
-            return isSet(properties.getFixedValue(), FIELD_FIXED_VALUE, context);
+        @Override
+        public void invalidMode(String message) {
+            context.buildConstraintViolationWithTemplate(message)
+                    .addPropertyNode(FIELD_MODE)
+                    .addConstraintViolation();
         }
 
-        private static boolean providerClassSet(ObfuscatorProperties properties, ConstraintValidatorContext context) {
-            return isSet(properties.getProviderClass(), FIELD_PROVIDER_CLASS, context);
+        @Override
+        public void mustBeNull(String fieldName) {
+            context.buildConstraintViolationWithTemplate("{jakarta.validation.constraints.Null.message}") //$NON-NLS-1$
+                    .addPropertyNode(fieldName)
+                    .addConstraintViolation();
         }
 
-        private static boolean isSet(Object value, String fieldName, ConstraintValidatorContext context) {
-            if (value == null) {
-                context.buildConstraintViolationWithTemplate("{jakarta.validation.constraints.NotNull.message}") //$NON-NLS-1$
-                        .addPropertyNode(fieldName)
-                        .addConstraintViolation();
-                return false;
-            }
-            return true;
+        @Override
+        public void mustNotBeNull(String fieldName) {
+            context.buildConstraintViolationWithTemplate("{jakarta.validation.constraints.NotNull.message}") //$NON-NLS-1$
+                    .addPropertyNode(fieldName)
+                    .addConstraintViolation();
         }
     }
 }
@@ -22,13 +22,18 @@ import java.util.Collections;
 import java.util.List;
 import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
 import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
 import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
 import org.springframework.core.type.AnnotatedTypeMetadata;
 
 /**
  * A condition for {@link ObfuscatorProperties}. This class allows matching of {@link ObfuscatorProperties} for any prefix.
  * It will match if any of the known properties of {@link ObfuscatorProperties} is set.
+ * <p>
+ * Instead of querying each property source for each of the known properties, the property names of the environment are indexed once, and
+ * shared by all instances of this class. This keeps evaluating conditions for many different prefixes cheap.
  *
  * @author Rob Spoor
  */
@@ -50,6 +55,8 @@ public class ObfuscatorPropertiesCondition extends SpringBootCondition {
             ));
 
     private final List<String> properties;
+    // null if not all properties are valid configuration property names
+    private final List<ConfigurationPropertyName> propertyNames;
 
     /**
      * Creates a new condition.
@@ -61,13 +68,17 @@ public class ObfuscatorPropertiesCondition extends SpringBootCondition {
         properties = NAMES.stream()
                 .map(n -> prefix + "." + n)
                 .toList();
+        propertyNames = properties.stream().allMatch(ConfigurationPropertyName::isValid)
+                ? properties.stream().map(ConfigurationPropertyName::of).toList()
+                : null;
     }
 
     @Override
     public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
         Environment environment = context.getEnvironment();
-        boolean hasProperty = properties.stream()
-                .anyMatch(environment::containsProperty);
+        boolean hasProperty = propertyNames != null && environment instanceof ConfigurableEnvironment configurableEnvironment
+                ? ConfigurationPropertyNameIndex.of(configurableEnvironment, context.getBeanFactory()).containsAny(propertyNames)
+                : properties.stream().anyMatch(environment::containsProperty);
         return hasProperty ? ConditionOutcome.match() : ConditionOutcome.noMatch(Messages.ObfuscatorPropertiesCondition.noMatch(properties));
     }
 }
@@ -0,0 +1,84 @@
+/*
+ * ObfuscatorRegistryAutoConfiguration.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.boot.autoconfigure;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import com.github.robtimus.obfuscation.spring.ObfuscatorRegistry;
+import com.github.robtimus.obfuscation.spring.boot.autoconfigure.ObfuscatorRegistryAutoConfiguration.ObfuscatorsCondition;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for {@link ObfuscatorRegistry}.
+ * <p>
+ * The registry contains an obfuscator for each name under {@code obfuscation.obfuscators}, created from the {@link ObfuscatorProperties} with
+ * that name. The properties are bound and validated once, and obfuscators with the same effective settings are shared.
+ * The obfuscators are decorated by any {@link com.github.robtimus.obfuscation.spring.ObfuscatorDecorator ObfuscatorDecorator} beans, using
+ * their names as decorator names.
+ * <p>
+ * No registry is created if no properties with prefix {@code obfuscation.obfuscators} are set.
+ *
+ * @author Rob Spoor
+ */
+@Configuration
+@ConditionalOnMissingBean(ObfuscatorRegistry.class)
+@Conditional(ObfuscatorsCondition.class)
+@SuppressWarnings("javadoc")
+public class ObfuscatorRegistryAutoConfiguration {
+
+    static final String PREFIX = "obfuscation.obfuscators"; //$NON-NLS-1$
+
+    @Bean
+    public ObfuscatorRegistry obfuscatorRegistry(AutowireCapableBeanFactory beanFactory, Environment environment) {
+        Map<String, ObfuscatorProperties> properties = Binder.get(environment)
+                .bind(PREFIX, Bindable.mapOf(String.class, ObfuscatorProperties.class))
+                .orElseGet(Collections::emptyMap);
+        properties.forEach((name, p) -> p.validate(PREFIX + "." + name)); //$NON-NLS-1$
+        return ObfuscatorRegistry.of(ObfuscatorProperties.createObfuscators(properties, beanFactory, Function.identity()));
+    }
+
+    static final class ObfuscatorsCondition extends SpringBootCondition {
+
+        private static final ConfigurationPropertyName PROPERTY_NAME = ConfigurationPropertyName.of(PREFIX);
+
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            Environment environment = context.getEnvironment();
+            boolean hasObfuscators = environment instanceof ConfigurableEnvironment configurableEnvironment
+                    && ConfigurationPropertyNameIndex.of(configurableEnvironment, context.getBeanFactory()).containsDescendantOf(PROPERTY_NAME);
+            return hasObfuscators
+                    ? ConditionOutcome.match()
+                    : ConditionOutcome.noMatch(Messages.ObfuscatorRegistryAutoConfiguration.noObfuscators(PREFIX));
+        }
+    }
+}
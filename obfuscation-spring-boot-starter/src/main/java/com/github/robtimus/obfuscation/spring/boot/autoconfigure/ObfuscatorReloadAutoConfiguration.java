@@ -0,0 +1,87 @@
+/*
+ * ObfuscatorReloadAutoConfiguration.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.boot.autoconfigure;
+
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for reloading {@link ReloadableObfuscator} beans when the environment changes.
+ * Only obfuscators with changed properties under their prefix are reloaded, or all obfuscators if any property under {@code obfuscation}
+ * changed.
+ *
+ * @author Rob Spoor
+ */
+@Configuration
+@ConditionalOnClass(EnvironmentChangeEvent.class)
+@SuppressWarnings("javadoc")
+public class ObfuscatorReloadAutoConfiguration {
+
+    private static final ConfigurationPropertyName OBFUSCATION_PREFIX = ConfigurationPropertyName.of("obfuscation"); //$NON-NLS-1$
+
+    @Bean
+    public ApplicationListener<EnvironmentChangeEvent> reloadableObfuscatorListener(ObjectProvider<ReloadableObfuscator> obfuscators) {
+        return event -> reload(obfuscators, changedNames(event));
+    }
+
+    private static List<ConfigurationPropertyName> changedNames(EnvironmentChangeEvent event) {
+        return event.getKeys().stream()
+                .map(key -> ConfigurationPropertyName.adapt(key, '.'))
+                .toList();
+    }
+
+    private static void reload(ObjectProvider<ReloadableObfuscator> obfuscators, List<ConfigurationPropertyName> changedNames) {
+        if (changedNames.isEmpty()) {
+            return;
+        }
+        // Reload all affected obfuscators, even if some of them fail to reload; those keep their current obfuscators
+        RuntimeException exception = null;
+        for (ReloadableObfuscator obfuscator : obfuscators) {
+            try {
+                if (isAffected(obfuscator, changedNames)) {
+                    obfuscator.reload();
+                }
+            } catch (RuntimeException e) {
+                if (exception == null) {
+                    exception = e;
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    private static boolean isAffected(ReloadableObfuscator obfuscator, List<ConfigurationPropertyName> changedNames) {
+        for (ConfigurationPropertyName changedName : changedNames) {
+            if (OBFUSCATION_PREFIX.isAncestorOf(changedName) || obfuscator.isBoundTo(changedName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
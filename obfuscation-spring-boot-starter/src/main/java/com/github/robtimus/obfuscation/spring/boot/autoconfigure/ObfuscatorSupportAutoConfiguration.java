@@ -19,8 +19,10 @@ package com.github.robtimus.obfuscation.spring.boot.autoconfigure;
 
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.EnvironmentAware;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import com.github.robtimus.obfuscation.Obfuscator;
 import com.github.robtimus.obfuscation.spring.ObfuscatorSupportBeanFactoryPostProcessor;
 
@@ -32,10 +34,20 @@ import com.github.robtimus.obfuscation.spring.ObfuscatorSupportBeanFactoryPostPr
 @Configuration
 @ConditionalOnProperty(name = "obfuscation.obfuscator-support.enabled", matchIfMissing = true)
 @SuppressWarnings("javadoc")
-public class ObfuscatorSupportAutoConfiguration {
+public class ObfuscatorSupportAutoConfiguration implements EnvironmentAware {
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
 
     @Bean
     public ObfuscatorSupportBeanFactoryPostProcessor obfuscatorSupportBeanFactoryPostProcessor() {
-        return new ObfuscatorSupportBeanFactoryPostProcessor();
+        ObfuscatorSupportBeanFactoryPostProcessor postProcessor = new ObfuscatorSupportBeanFactoryPostProcessor();
+        postProcessor.setQualifiedObfuscators(
+                environment.getProperty("obfuscation.obfuscator-support.qualified-obfuscators", boolean.class, false)); //$NON-NLS-1$
+        return postProcessor;
     }
 }
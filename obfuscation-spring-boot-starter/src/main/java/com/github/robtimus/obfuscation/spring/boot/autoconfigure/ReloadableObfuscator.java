@@ -0,0 +1,138 @@
+/*
+ * ReloadableObfuscator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.boot.autoconfigure;
+
+import java.util.Objects;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.core.env.Environment;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.spring.DelegatingObfuscator;
+import com.github.robtimus.obfuscation.spring.boot.autoconfigure.ObfuscatorProperties.ObfuscatorSettings;
+
+/**
+ * An obfuscator that is created from {@link ObfuscatorProperties} that can be reloaded from the environment.
+ * <p>
+ * Calling {@link #reload()} binds the properties with this obfuscator's prefix again. If the settings of these properties differ from the
+ * current settings, a new obfuscator is created which replaces the current one. Obfuscating never blocks; a replaced obfuscator is used by
+ * calls that are still running, and by streams created using {@link #streamTo(Appendable)}.
+ * <p>
+ * This class does not detect changes to the environment itself. If Spring Cloud Context is available, {@code ReloadableObfuscator} beans are
+ * reloaded when an {@code EnvironmentChangeEvent} is published with changed keys under their prefix or under {@code obfuscation}. Otherwise,
+ * call {@link #reload()} after the environment has changed, for instance from an event listener or a file watcher.
+ * <p>
+ * {@link com.github.robtimus.obfuscation.Obfuscated Obfuscated} values that are created using this obfuscator are never cached, so they
+ * always use the current obfuscator.
+ *
+ * @author Rob Spoor
+ * @since 3.1
+ */
+public final class ReloadableObfuscator extends DelegatingObfuscator {
+
+    private final String prefix;
+    private final ConfigurationPropertyName prefixName;
+    private final Class<? extends ObfuscatorProperties> propertiesType;
+    private final Environment environment;
+    private final AutowireCapableBeanFactory beanFactory;
+
+    // A snapshot of the settings of the current obfuscator. The properties object itself can be rebound in place, for instance by Spring Cloud,
+    // so it cannot be used to detect changes. Only accessed while reloading, which is synchronized.
+    private ObfuscatorSettings settings;
+
+    private volatile Obfuscator delegate;
+
+    /**
+     * Creates a new reloadable obfuscator.
+     *
+     * @param properties The properties to create the initial obfuscator from. These should be bound to the given prefix.
+     *                       When reloading, new instances of the same class are bound.
+     * @param prefix The prefix of the properties.
+     * @param environment The environment to bind the properties from when reloading.
+     * @param beanFactory A bean factory to use to create instances of {@link com.github.robtimus.obfuscation.annotation.ObfuscatorProvider}
+     *                        if needed.
+     * @throws NullPointerException If any of the arguments is {@code null}.
+     * @throws IllegalStateException If the given properties object is in an inconsistent state.
+     */
+    public ReloadableObfuscator(ObfuscatorProperties properties, String prefix, Environment environment, AutowireCapableBeanFactory beanFactory) {
+        this.prefix = Objects.requireNonNull(prefix);
+        this.prefixName = ConfigurationPropertyName.adapt(prefix, '.');
+        this.propertiesType = properties.getClass();
+        this.environment = Objects.requireNonNull(environment);
+        this.beanFactory = Objects.requireNonNull(beanFactory);
+
+        this.settings = properties.settings();
+        this.delegate = properties.createObfuscator(beanFactory);
+    }
+
+    /**
+     * Reloads this obfuscator.
+     * If the properties with this obfuscator's prefix have not changed, the current obfuscator is kept.
+     * If the properties are invalid, the current obfuscator is kept as well.
+     *
+     * @return {@code true} if the obfuscator was replaced, or {@code false} if the properties were not changed.
+     * @throws IllegalStateException If the properties with this obfuscator's prefix are invalid.
+     * @throws org.springframework.boot.context.properties.bind.BindException If the properties with this obfuscator's prefix could not be
+     *                                                                            bound.
+     */
+    public synchronized boolean reload() {
+        ObfuscatorProperties newProperties = Binder.get(environment).bindOrCreate(prefix, propertiesType);
+        newProperties.validate(prefix);
+
+        ObfuscatorSettings newSettings = newProperties.settings();
+        if (newSettings.equals(settings)) {
+            return false;
+        }
+
+        // Create the new obfuscator before updating any state, so a failure leaves the current obfuscator in place
+        Obfuscator newDelegate = newProperties.createObfuscator(beanFactory);
+        settings = newSettings;
+        delegate = newDelegate;
+        return true;
+    }
+
+    // Returns whether or not the given property name is bound by this obfuscator
+    boolean isBoundTo(ConfigurationPropertyName name) {
+        return prefixName.equals(name) || prefixName.isAncestorOf(name);
+    }
+
+    /**
+     * Returns the current obfuscator.
+     *
+     * @return The current obfuscator.
+     */
+    public Obfuscator currentObfuscator() {
+        return delegate;
+    }
+
+    @Override
+    protected Obfuscator delegate() {
+        return delegate;
+    }
+
+    @Override
+    protected boolean isDelegateReplaceable() {
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return getClass().getName() + "[prefix=" + prefix + ",obfuscator=" + delegate + "]";
+    }
+}
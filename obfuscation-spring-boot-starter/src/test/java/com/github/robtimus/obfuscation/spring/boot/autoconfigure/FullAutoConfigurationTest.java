@@ -26,7 +26,9 @@ import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Configuration;
 import com.github.robtimus.obfuscation.Obfuscator;
 import com.github.robtimus.obfuscation.spring.ObfuscatedSupportBeanFactoryPostProcessor;
+import com.github.robtimus.obfuscation.spring.ObfuscatorRegistry;
 import com.github.robtimus.obfuscation.spring.ObfuscatorSupportBeanFactoryPostProcessor;
+import com.github.robtimus.obfuscation.spring.ProviderCachingBeanFactoryPostProcessor;
 
 @SuppressWarnings("nls")
 class FullAutoConfigurationTest {
@@ -40,7 +42,9 @@ class FullAutoConfigurationTest {
             assertThat(context).hasSingleBean(ObfuscatedSupportBeanFactoryPostProcessor.class);
             assertThat(context).doesNotHaveBean(ObfuscatorProperties.class);
             assertThat(context).doesNotHaveBean(Obfuscator.class);
+            assertThat(context).doesNotHaveBean(ObfuscatorRegistry.class);
             assertThat(context).hasSingleBean(ObfuscatorSupportBeanFactoryPostProcessor.class);
+            assertThat(context).doesNotHaveBean(ProviderCachingBeanFactoryPostProcessor.class);
         });
     }
 
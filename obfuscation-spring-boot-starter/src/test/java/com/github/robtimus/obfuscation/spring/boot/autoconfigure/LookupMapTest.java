@@ -0,0 +1,183 @@
+/*
+ * LookupMapTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.boot.autoconfigure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("nls")
+class LookupMapTest {
+
+    @Nested
+    @DisplayName("case-sensitive")
+    class CaseSensitiveTest {
+
+        @Test
+        @DisplayName("empty map")
+        void testEmptyMap() {
+            Map<String, Integer> map = LookupMap.of(Map.of());
+
+            assertTrue(map.isEmpty());
+            assertEquals(0, map.size());
+            assertNull(map.get("key"));
+            assertFalse(map.containsKey("key"));
+            assertFalse(map.entrySet().iterator().hasNext());
+            assertThrows(NoSuchElementException.class, () -> map.entrySet().iterator().next());
+        }
+
+        @Test
+        @DisplayName("lookups")
+        void testLookups() {
+            Map<String, Integer> source = createSource();
+
+            Map<String, Integer> map = LookupMap.of(source);
+
+            assertEquals(source.size(), map.size());
+            assertFalse(map.isEmpty());
+            source.forEach((k, v) -> {
+                assertEquals(v, map.get(k));
+                // Use a different String instance
+                assertEquals(v, map.get(new String(k)));
+                assertTrue(map.containsKey(k));
+            });
+            assertNull(map.get("KEY1"));
+            assertNull(map.get("unknown"));
+            assertNull(map.get(null));
+            assertNull(map.get(1));
+            assertEquals(-1, map.getOrDefault("unknown", -1));
+            assertEquals(1, map.getOrDefault("key1", -1));
+        }
+
+        @Test
+        @DisplayName("colliding hash codes")
+        void testCollidingHashCodes() {
+            // "Aa" and "BB" have the same hash code
+            Map<String, Integer> map = LookupMap.of(Map.of("Aa", 1, "BB", 2));
+
+            assertEquals(1, map.get("Aa"));
+            assertEquals(2, map.get("BB"));
+        }
+
+        @Test
+        @DisplayName("equals and iteration")
+        void testEqualsAndIteration() {
+            Map<String, Integer> source = createSource();
+
+            Map<String, Integer> map = LookupMap.of(source);
+
+            assertEquals(source, map);
+            assertEquals(map, source);
+            assertEquals(source.hashCode(), map.hashCode());
+            assertEquals(source, new HashMap<>(map));
+        }
+
+        @Test
+        @DisplayName("immutable")
+        void testImmutable() {
+            Map<String, Integer> map = LookupMap.of(createSource());
+
+            assertThrows(UnsupportedOperationException.class, () -> map.put("key", 1));
+            assertThrows(UnsupportedOperationException.class, () -> map.remove("key1"));
+            assertThrows(UnsupportedOperationException.class, map::clear);
+            Iterator<Map.Entry<String, Integer>> iterator = map.entrySet().iterator();
+            Map.Entry<String, Integer> entry = iterator.next();
+            assertThrows(UnsupportedOperationException.class, () -> entry.setValue(1));
+            assertThrows(UnsupportedOperationException.class, iterator::remove);
+        }
+
+        @Test
+        @DisplayName("null key")
+        void testNullKey() {
+            Map<String, Integer> source = new HashMap<>();
+            source.put(null, 1);
+
+            assertThrows(NullPointerException.class, () -> LookupMap.of(source));
+        }
+
+        @Test
+        @DisplayName("null value")
+        void testNullValue() {
+            Map<String, Integer> source = new HashMap<>();
+            source.put("key", null);
+
+            assertThrows(NullPointerException.class, () -> LookupMap.of(source));
+        }
+    }
+
+    @Nested
+    @DisplayName("case-insensitive")
+    class CaseInsensitiveTest {
+
+        @Test
+        @DisplayName("lookups")
+        void testLookups() {
+            Map<String, Integer> source = createSource();
+
+            Map<String, Integer> map = LookupMap.caseInsensitiveOf(source);
+
+            assertEquals(source.size(), map.size());
+            source.forEach((k, v) -> {
+                assertEquals(v, map.get(k));
+                assertEquals(v, map.get(k.toUpperCase()));
+                assertTrue(map.containsKey(k.toUpperCase()));
+            });
+            assertEquals(1, map.get("Key1"));
+            assertNull(map.get("unknown"));
+            assertNull(map.get(null));
+            assertNull(map.get(1));
+        }
+
+        @Test
+        @DisplayName("non-ASCII keys")
+        void testNonAsciiKeys() {
+            // U+10400 and U+10428 are the upper and lower case variants of the same supplementary character
+            Map<String, Integer> map = LookupMap.caseInsensitiveOf(Map.of("straße", 1, "𐐀", 2));
+
+            assertEquals(1, map.get("STRAßE"));
+            assertEquals(2, map.get("𐐨"));
+        }
+
+        @Test
+        @DisplayName("keys that only differ in case")
+        void testDuplicateKeys() {
+            Map<String, Integer> source = Map.of("key", 1, "KEY", 2);
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> LookupMap.caseInsensitiveOf(source));
+            assertTrue(exception.getMessage().contains("key"));
+            assertTrue(exception.getMessage().contains("KEY"));
+        }
+    }
+
+    private static Map<String, Integer> createSource() {
+        Map<String, Integer> source = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            source.put("key" + i, i);
+        }
+        return source;
+    }
+}
@@ -18,11 +18,20 @@
 package com.github.robtimus.obfuscation.spring.boot.autoconfigure;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 import com.github.robtimus.obfuscation.Obfuscated;
 import com.github.robtimus.obfuscation.Obfuscator;
@@ -82,6 +91,63 @@ class ObfuscatedSupportAutoConfigurationTest {
                 });
     }
 
+    @Test
+    @DisplayName("lazy")
+    void testLazy() {
+        contextRunner
+                .withUserConfiguration(LazyBeanProvider.class, BeanWithLazyObfuscated.class)
+                .withPropertyValues("obfuscation.obfuscated-support.lazy=true")
+                .run(context -> {
+                    BeanWithLazyObfuscated bean = context.getBean(BeanWithLazyObfuscated.class);
+
+                    assertThat(LazyBeanProvider.CREATED.get()).isFalse();
+
+                    assertThat(bean.lazyObfuscated.value().get()).isEqualTo("lazy");
+                    assertThat(LazyBeanProvider.CREATED.get()).isTrue();
+                });
+    }
+
+    @Test
+    @DisplayName("intern values")
+    void testInternValues() {
+        contextRunner
+                .withUserConfiguration(PrototypeBeanWithObfuscated.class)
+                .withPropertyValues("obfuscation.obfuscated-support.intern-values=true")
+                .run(context -> {
+                    PrototypeBeanWithObfuscated bean = context.getBean(PrototypeBeanWithObfuscated.class);
+                    PrototypeBeanWithObfuscated otherBean = context.getBean(PrototypeBeanWithObfuscated.class);
+
+                    assertThat(otherBean).isNotSameAs(bean);
+                    assertThat(otherBean.obfuscated).isSameAs(bean.obfuscated);
+                });
+    }
+
+    @Test
+    @DisplayName("intern values with reloadable default obfuscator")
+    void testInternValuesWithReloadableDefaultObfuscator() {
+        contextRunner
+                .withUserConfiguration(ObfuscatorAutoConfiguration.class, PrototypeBeanWithObfuscated.class)
+                .withPropertyValues(
+                        "obfuscation.default-obfuscator.fixed-length=8",
+                        "obfuscation.reload.enabled=true",
+                        "obfuscation.obfuscated-support.intern-values=true")
+                .run(context -> {
+                    PrototypeBeanWithObfuscated bean = context.getBean(PrototypeBeanWithObfuscated.class);
+
+                    assertThat(bean.obfuscated).hasToString("********");
+
+                    TestPropertyValues.of("obfuscation.default-obfuscator.fixed-length=4").applyTo(context);
+                    assertThat(context.getBean(ReloadableObfuscator.class).reload()).isTrue();
+
+                    // Interned values are not cached, so they use the reloaded obfuscator
+                    assertThat(bean.obfuscated).hasToString("****");
+
+                    PrototypeBeanWithObfuscated otherBean = context.getBean(PrototypeBeanWithObfuscated.class);
+
+                    assertThat(otherBean.obfuscated).isSameAs(bean.obfuscated);
+                });
+    }
+
     @Test
     @DisplayName("disabled")
     void testDisabled() {
@@ -91,6 +157,34 @@ class ObfuscatedSupportAutoConfigurationTest {
                 .run(context -> assertThat(context).hasFailed());
     }
 
+    @Configuration
+    static class LazyBeanProvider {
+
+        private static final AtomicBoolean CREATED = new AtomicBoolean(false);
+
+        @Bean
+        @Lazy
+        Supplier<String> lazyBean() {
+            CREATED.set(true);
+            return () -> "lazy";
+        }
+    }
+
+    @Component
+    static class BeanWithLazyObfuscated {
+
+        @Autowired
+        private Obfuscated<Supplier<String>> lazyObfuscated;
+    }
+
+    @Component
+    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+    static class PrototypeBeanWithObfuscated {
+
+        @Value("${secure-value}")
+        private Obfuscated<String> obfuscated;
+    }
+
     @Component
     static class BeanWithObfuscateds {
 
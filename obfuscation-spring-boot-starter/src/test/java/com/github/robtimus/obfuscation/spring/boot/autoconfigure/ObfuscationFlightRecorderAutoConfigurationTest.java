@@ -0,0 +1,72 @@
+/*
+ * ObfuscationFlightRecorderAutoConfigurationTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.stereotype.Component;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.annotation.ObfuscateFixedValue;
+import com.github.robtimus.obfuscation.spring.FlightRecorderObfuscatorDecorator;
+
+@SuppressWarnings("nls")
+class ObfuscationFlightRecorderAutoConfigurationTest {
+
+    private ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ObfuscationFlightRecorderAutoConfiguration.class, ObfuscatorSupportAutoConfiguration.class,
+                    BeanWithObfuscator.class));
+
+    @Test
+    @DisplayName("disabled by default")
+    void testDisabledByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(FlightRecorderObfuscatorDecorator.class);
+
+            BeanWithObfuscator bean = context.getBean(BeanWithObfuscator.class);
+
+            assertThat(bean.obfuscator).isEqualTo(Obfuscator.fixedValue("<fixed>"));
+        });
+    }
+
+    @Test
+    @DisplayName("enabled")
+    void testEnabled() {
+        contextRunner
+                .withPropertyValues("obfuscation.flight-recorder.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(FlightRecorderObfuscatorDecorator.class);
+
+                    BeanWithObfuscator bean = context.getBean(BeanWithObfuscator.class);
+
+                    assertThat(bean.obfuscator).isNotEqualTo(Obfuscator.fixedValue("<fixed>"));
+                    assertThat(bean.obfuscator.obfuscateText("hello")).hasToString("<fixed>");
+                });
+    }
+
+    @Component
+    static class BeanWithObfuscator {
+
+        @Autowired
+        @ObfuscateFixedValue("<fixed>")
+        private Obfuscator obfuscator;
+    }
+}
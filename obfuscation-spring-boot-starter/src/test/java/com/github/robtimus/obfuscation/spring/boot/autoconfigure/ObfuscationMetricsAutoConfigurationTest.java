@@ -0,0 +1,120 @@
+/*
+ * ObfuscationMetricsAutoConfigurationTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.stereotype.Component;
+import com.github.robtimus.obfuscation.Obfuscated;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.annotation.ObfuscateFixedValue;
+import com.github.robtimus.obfuscation.spring.ObfuscatorDecorator;
+
+@SuppressWarnings("nls")
+class ObfuscationMetricsAutoConfigurationTest {
+
+    private ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ObfuscationMetricsAutoConfiguration.class, ObfuscatorAutoConfiguration.class,
+                    ObfuscatorSupportAutoConfiguration.class, ObfuscatedSupportAutoConfiguration.class, BeanWithObfuscators.class))
+            .withBean(String.class, () -> "hello")
+            .withPropertyValues("obfuscation.default-obfuscator.mode=ALL");
+
+    @Test
+    @DisplayName("disabled by default")
+    void testDisabledByDefault() {
+        contextRunner
+                .withBean(SimpleMeterRegistry.class)
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(ObfuscatorDecorator.class);
+
+                    BeanWithObfuscators bean = context.getBean(BeanWithObfuscators.class);
+
+                    assertThat(bean.defaultObfuscator).isEqualTo(Obfuscator.all());
+                    assertThat(bean.annotatedObfuscator).isEqualTo(Obfuscator.fixedValue("<fixed>"));
+                    assertThat(context.getBean(MeterRegistry.class).getMeters()).isEmpty();
+                });
+    }
+
+    @Test
+    @DisplayName("enabled without meter registry")
+    void testEnabledWithoutMeterRegistry() {
+        contextRunner
+                .withPropertyValues("obfuscation.metrics.enabled=true")
+                .run(context -> assertThat(context).doesNotHaveBean(ObfuscatorDecorator.class));
+    }
+
+    @Test
+    @DisplayName("enabled")
+    void testEnabled() {
+        contextRunner
+                .withBean(SimpleMeterRegistry.class)
+                .withPropertyValues("obfuscation.metrics.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ObfuscatorDecorator.class);
+
+                    BeanWithObfuscators bean = context.getBean(BeanWithObfuscators.class);
+                    MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+                    assertThat(bean.defaultObfuscator.obfuscateText("hello").toString()).isEqualTo("*****");
+                    assertThat(bean.annotatedObfuscator.obfuscateText("hello").toString()).isEqualTo("<fixed>");
+                    assertThat(bean.annotatedObfuscator.obfuscateText("hello world", 0, 5).toString()).isEqualTo("<fixed>");
+                    assertThat(bean.obfuscated).hasToString("<fixed>");
+
+                    assertThat(timer(meterRegistry, "ALL").count()).isEqualTo(1);
+                    assertThat(inputLength(meterRegistry, "ALL").totalAmount()).isEqualTo(5);
+
+                    assertThat(timer(meterRegistry, "FIXED_VALUE").count()).isEqualTo(3);
+                    assertThat(inputLength(meterRegistry, "FIXED_VALUE").totalAmount()).isEqualTo(15);
+                });
+    }
+
+    private Timer timer(MeterRegistry meterRegistry, String obfuscator) {
+        return meterRegistry.get(MicrometerObfuscatorDecorator.DURATION_METER)
+                .tag(MicrometerObfuscatorDecorator.OBFUSCATOR_TAG, obfuscator)
+                .timer();
+    }
+
+    private DistributionSummary inputLength(MeterRegistry meterRegistry, String obfuscator) {
+        return meterRegistry.get(MicrometerObfuscatorDecorator.INPUT_LENGTH_METER)
+                .tag(MicrometerObfuscatorDecorator.OBFUSCATOR_TAG, obfuscator)
+                .summary();
+    }
+
+    @Component
+    static class BeanWithObfuscators {
+
+        @Autowired
+        private Obfuscator defaultObfuscator;
+
+        @Autowired
+        @ObfuscateFixedValue("<fixed>")
+        private Obfuscator annotatedObfuscator;
+
+        @Autowired
+        @ObfuscateFixedValue("<fixed>")
+        private Obfuscated<String> obfuscated;
+    }
+}
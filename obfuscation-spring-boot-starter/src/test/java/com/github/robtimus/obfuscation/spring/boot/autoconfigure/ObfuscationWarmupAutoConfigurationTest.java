@@ -0,0 +1,98 @@
+/*
+ * ObfuscationWarmupAutoConfigurationTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Scope;
+import org.springframework.stereotype.Component;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.annotation.ObfuscateUsing;
+import com.github.robtimus.obfuscation.annotation.ObfuscatorProvider;
+import com.github.robtimus.obfuscation.spring.ObfuscationWarmup;
+
+@SuppressWarnings("nls")
+class ObfuscationWarmupAutoConfigurationTest {
+
+    private ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ObfuscationWarmupAutoConfiguration.class, ObfuscatorSupportAutoConfiguration.class,
+                    PrototypeBeanWithObfuscator.class));
+
+    @BeforeEach
+    void clearInstances() {
+        TrackingObfuscatorProvider.INSTANCES.clear();
+    }
+
+    @Test
+    @DisplayName("disabled by default")
+    void testDisabledByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(ObfuscationWarmup.class);
+            assertThat(TrackingObfuscatorProvider.INSTANCES).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("enabled")
+    void testEnabled() {
+        contextRunner
+                .withPropertyValues("obfuscation.warmup.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ObfuscationWarmup.class);
+                    assertThat(TrackingObfuscatorProvider.INSTANCES).hasSize(1);
+
+                    PrototypeBeanWithObfuscator bean = context.getBean(PrototypeBeanWithObfuscator.class);
+
+                    assertThat(bean.obfuscator).isSameAs(TrackingObfuscatorProvider.OBFUSCATOR);
+                    assertThat(TrackingObfuscatorProvider.INSTANCES).hasSize(1);
+                });
+    }
+
+    @Component
+    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+    static class PrototypeBeanWithObfuscator {
+
+        @Autowired
+        @ObfuscateUsing(TrackingObfuscatorProvider.class)
+        private Obfuscator obfuscator;
+    }
+
+    static class TrackingObfuscatorProvider implements ObfuscatorProvider {
+
+        static final Obfuscator OBFUSCATOR = Obfuscator.fixedValue("<tracked>");
+
+        static final List<TrackingObfuscatorProvider> INSTANCES = new ArrayList<>();
+
+        TrackingObfuscatorProvider() {
+            INSTANCES.add(this);
+        }
+
+        @Override
+        public Obfuscator obfuscator() {
+            return OBFUSCATOR;
+        }
+    }
+}
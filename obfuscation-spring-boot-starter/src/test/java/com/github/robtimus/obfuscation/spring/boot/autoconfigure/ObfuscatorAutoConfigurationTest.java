@@ -22,6 +22,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.util.TestPropertyValues;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import com.github.robtimus.obfuscation.Obfuscator;
@@ -53,6 +54,24 @@ class ObfuscatorAutoConfigurationTest {
                 });
     }
 
+    @Test
+    @DisplayName("reloadable default configured")
+    void testReloadableDefaultConfigured() {
+        contextRunner.withPropertyValues("obfuscation.default-obfuscator.fixed-length=8", "obfuscation.reload.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ObfuscatorProperties.class);
+
+                    Obfuscator obfuscator = context.getBean(Obfuscator.class);
+                    assertThat(obfuscator).isInstanceOf(ReloadableObfuscator.class);
+                    assertThat(obfuscator.obfuscateText("value")).hasToString("********");
+
+                    TestPropertyValues.of("obfuscation.default-obfuscator.fixed-length=4").applyTo(context);
+
+                    assertThat(((ReloadableObfuscator) obfuscator).reload()).isTrue();
+                    assertThat(obfuscator.obfuscateText("value")).hasToString("****");
+                });
+    }
+
     @Test
     @DisplayName("existing bean present")
     void testWithExistingBean() {
@@ -18,16 +18,25 @@
 package com.github.robtimus.obfuscation.spring.boot.autoconfigure;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.env.SystemEnvironmentPropertySource;
 import com.github.robtimus.obfuscation.Obfuscator;
 
 @SuppressWarnings("nls")
@@ -286,6 +295,73 @@ class ObfuscatorPropertiesConditionTest {
         }
     }
 
+    @Nested
+    @DisplayName("property sources")
+    class PropertySourcesTest {
+
+        @Test
+        @DisplayName("environment variable")
+        void testEnvironmentVariable() {
+            contextRunner.withInitializer(context -> context.getEnvironment().getPropertySources()
+                    .addFirst(new SystemEnvironmentPropertySource("test", Map.of("OBFUSCATOR_CONDITION_MODE", "ALL"))))
+                    .run(context -> {
+                        ObfuscatorProperties properties = context.getBean(ObfuscatorProperties.class);
+
+                        Obfuscator obfuscator = properties.createObfuscator(context.getAutowireCapableBeanFactory());
+
+                        assertThat(obfuscator).isEqualTo(Obfuscator.all());
+                    });
+        }
+
+        @Test
+        @DisplayName("property source added after previous evaluation")
+        void testPropertySourceAddedAfterPreviousEvaluation() {
+            contextRunner.withInitializer(context -> {
+                ConfigurableEnvironment environment = context.getEnvironment();
+                // Query the index before any property is set, which caches the index for the environment
+                List<ConfigurationPropertyName> propertyNames = List.of(ConfigurationPropertyName.of("obfuscator-condition.mode"));
+                assertThat(ConfigurationPropertyNameIndex.of(environment, context.getBeanFactory()).containsAny(propertyNames)).isFalse();
+                environment.getPropertySources().addFirst(new MapPropertySource("test", Map.of("obfuscator-condition.mode", "ALL")));
+            })
+                    .run(context -> {
+                        ObfuscatorProperties properties = context.getBean(ObfuscatorProperties.class);
+
+                        Obfuscator obfuscator = properties.createObfuscator(context.getAutowireCapableBeanFactory());
+
+                        assertThat(obfuscator).isEqualTo(Obfuscator.all());
+                    });
+        }
+
+        @Test
+        @DisplayName("property source contents changed between condition evaluation passes")
+        void testPropertySourceContentsChangedBetweenPasses() {
+            StandardEnvironment environment = new StandardEnvironment();
+            Map<String, Object> source = new HashMap<>();
+            environment.getPropertySources().addFirst(new MapPropertySource("test", source));
+            List<ConfigurationPropertyName> propertyNames = List.of(ConfigurationPropertyName.of("obfuscator-condition.mode"));
+
+            assertThat(ConfigurationPropertyNameIndex.of(environment, new DefaultListableBeanFactory()).containsAny(propertyNames)).isFalse();
+
+            source.put("obfuscator-condition.mode", "ALL");
+
+            assertThat(ConfigurationPropertyNameIndex.of(environment, new DefaultListableBeanFactory()).containsAny(propertyNames)).isTrue();
+        }
+
+        @Test
+        @DisplayName("descendants")
+        void testDescendants() {
+            StandardEnvironment environment = new StandardEnvironment();
+            environment.getPropertySources().addFirst(new MapPropertySource("test", Map.of("obfuscator-condition.nested.mask-char", "*")));
+
+            ConfigurationPropertyNameIndex index = ConfigurationPropertyNameIndex.of(environment, null);
+
+            assertThat(index.containsDescendantOf(ConfigurationPropertyName.of("obfuscator-condition"))).isTrue();
+            assertThat(index.containsDescendantOf(ConfigurationPropertyName.of("obfuscator-condition.nested"))).isTrue();
+            assertThat(index.containsDescendantOf(ConfigurationPropertyName.of("obfuscator-condition.nested.mask-char"))).isFalse();
+            assertThat(index.containsDescendantOf(ConfigurationPropertyName.of("obfuscator-condition.other"))).isFalse();
+        }
+    }
+
     static final class TestCondition extends ObfuscatorPropertiesCondition {
 
         private TestCondition() {
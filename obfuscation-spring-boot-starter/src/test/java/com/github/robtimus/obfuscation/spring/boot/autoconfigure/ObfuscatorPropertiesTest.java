@@ -26,17 +26,27 @@ import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.hasToString;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
@@ -49,14 +59,25 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.validation.BindValidationException;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.annotation.Validated;
 import com.github.robtimus.obfuscation.Obfuscator;
 import com.github.robtimus.obfuscation.annotation.ObfuscatorProvider;
+import com.github.robtimus.obfuscation.annotation.ObjectFactory;
+import com.github.robtimus.obfuscation.spring.ObfuscatorDecorator;
 import com.github.robtimus.obfuscation.spring.boot.autoconfigure.ObfuscatorProperties.ObfuscationMode;
 
 @SuppressWarnings("nls")
@@ -506,6 +527,151 @@ final class ObfuscatorPropertiesTest {
         }
     }
 
+    @Nested
+    @DisplayName("validation without Bean Validation")
+    class SpringValidationTest {
+
+        @Test
+        @DisplayName("supports")
+        void testSupports() {
+            ObfuscatorProperties properties = new ObfuscatorProperties();
+
+            assertTrue(properties.supports(ObfuscatorProperties.class));
+            assertFalse(properties.supports(Object.class));
+        }
+
+        @Test
+        @DisplayName("no properties set")
+        void testNoProperties() {
+            ObfuscatorProperties properties = new ObfuscatorProperties();
+
+            List<FieldError> errors = validate(properties);
+
+            assertThat(errors, contains(
+                    matchesError("ValidObfuscatorProperties", equalTo(Messages.ObfuscatorProperties.noObfuscationModes()), "mode")));
+        }
+
+        @Test
+        @DisplayName("all properties but mode")
+        void testAllPropertiesButMode() {
+            ObfuscatorProperties properties = new ObfuscatorProperties();
+            properties.setMaskChar('*');
+            properties.setFixedLength(8);
+            properties.setFixedValue("<fixed>");
+            properties.setProviderClass(TestObfuscatorProvider.class);
+
+            List<FieldError> errors = validate(properties);
+
+            assertThat(errors, contains(
+                    matchesError("ValidObfuscatorProperties", equalTo(Messages.ObfuscatorProperties.multipleObfuscationModes()), "mode")));
+        }
+
+        @Test
+        @DisplayName("missing required property")
+        void testMissingRequiredProperty() {
+            ObfuscatorProperties properties = new ObfuscatorProperties();
+            properties.setMode(ObfuscationMode.FIXED_LENGTH);
+
+            List<FieldError> errors = validate(properties);
+
+            assertThat(errors, contains(matchesError("NotNull", equalTo("must not be null"), "fixedLength")));
+        }
+
+        @Test
+        @DisplayName("forbidden properties")
+        void testForbiddenProperties() {
+            ObfuscatorProperties properties = new ObfuscatorProperties();
+            properties.setMode(ObfuscationMode.PORTION);
+            properties.setKeepAtStart(4);
+            properties.setFixedLength(8);
+            properties.setFixedValue("<fixed>");
+
+            List<FieldError> errors = validate(properties);
+
+            assertThat(errors, containsInAnyOrder(
+                    matchesError("Null", equalTo("must be null"), "fixedLength"),
+                    matchesError("Null", equalTo("must be null"), "fixedValue")));
+        }
+
+        @Test
+        @DisplayName("negative values")
+        void testNegativeValues() {
+            ObfuscatorProperties properties = new ObfuscatorProperties();
+            properties.setKeepAtStart(-1);
+            properties.setKeepAtEnd(-1);
+            properties.setAtLeastFromStart(-1);
+            properties.setAtLeastFromEnd(-1);
+
+            List<FieldError> errors = validate(properties);
+
+            assertThat(errors, containsInAnyOrder(
+                    matchesError("Min", equalTo("must be greater than or equal to 0"), "keepAtStart"),
+                    matchesError("Min", equalTo("must be greater than or equal to 0"), "keepAtEnd"),
+                    matchesError("Min", equalTo("must be greater than or equal to 0"), "atLeastFromStart"),
+                    matchesError("Min", equalTo("must be greater than or equal to 0"), "atLeastFromEnd")));
+        }
+
+        @Test
+        @DisplayName("valid properties")
+        void testValidProperties() {
+            ObfuscatorProperties properties = new ObfuscatorProperties();
+            properties.setKeepAtStart(4);
+            properties.setFixedTotalLength(8);
+
+            assertEquals(List.of(), validate(properties));
+        }
+
+        @Test
+        @DisplayName("invalid properties fail binding")
+        void testBindingInvalidProperties() {
+            ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+                    .withConfiguration(AutoConfigurations.of(PropertiesProvider.class));
+
+            contextRunner.withPropertyValues("obfuscator.mode=FIXED_LENGTH")
+                    .run(context -> {
+                        Assertions.assertThat(context).hasFailed();
+                        Assertions.assertThat(context.getStartupFailure())
+                                .rootCause()
+                                .isInstanceOf(BindValidationException.class)
+                                .hasMessageContaining("fixedLength");
+                    });
+        }
+
+        @Test
+        @DisplayName("subclasses with @Validated are validated only once")
+        void testBindingInvalidValidatedProperties() {
+            ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+                    .withConfiguration(AutoConfigurations.of(ValidatedPropertiesProvider.class));
+
+            contextRunner.withPropertyValues("obfuscator.mode=FIXED_LENGTH")
+                    .run(context -> {
+                        Assertions.assertThat(context).hasFailed();
+                        Assertions.assertThat(context.getStartupFailure())
+                                .rootCause()
+                                .isInstanceOf(BindValidationException.class);
+
+                        BindValidationException exception = (BindValidationException) NestedExceptionUtils.getRootCause(
+                                context.getStartupFailure());
+                        Assertions.assertThat(exception.getValidationErrors().getAllErrors())
+                                .singleElement()
+                                .isInstanceOfSatisfying(FieldError.class, error -> Assertions.assertThat(error.getField()).isEqualTo("fixedLength"));
+                    });
+        }
+
+        private List<FieldError> validate(ObfuscatorProperties properties) {
+            BeanPropertyBindingResult errors = new BeanPropertyBindingResult(properties, "obfuscator");
+            properties.validate(properties, errors);
+            return errors.getFieldErrors();
+        }
+
+        private Matcher<FieldError> matchesError(String code, Matcher<String> messageMatcher, String field) {
+            return allOf(
+                    hasProperty("code", equalTo(code)),
+                    hasProperty("defaultMessage", messageMatcher),
+                    hasProperty("field", equalTo(field)));
+        }
+    }
+
     @Nested
     @DisplayName("createObfuscator")
     class CreateObfuscatorTest {
@@ -808,6 +974,245 @@ final class ObfuscatorPropertiesTest {
         }
     }
 
+    @Nested
+    @DisplayName("createObfuscators")
+    class CreateObfuscatorsTest {
+
+        @Test
+        @DisplayName("map with bean factory")
+        void testMapWithBeanFactory() {
+            Map<String, ObfuscatorProperties> properties = createPropertiesMap();
+            DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+            Map<String, Obfuscator> obfuscators = ObfuscatorProperties.createObfuscators(properties, beanFactory);
+
+            assertSharedObfuscators(obfuscators);
+        }
+
+        @Test
+        @DisplayName("map with object factory")
+        void testMapWithObjectFactory() {
+            Map<String, ObfuscatorProperties> properties = createPropertiesMap();
+
+            Map<String, Obfuscator> obfuscators = ObfuscatorProperties.createObfuscators(properties, objectFactory());
+
+            assertSharedObfuscators(obfuscators);
+        }
+
+        @Test
+        @DisplayName("collection with bean factory")
+        void testCollectionWithBeanFactory() {
+            Map<String, ObfuscatorProperties> properties = createPropertiesMap();
+            DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+            List<Obfuscator> obfuscators = ObfuscatorProperties.createObfuscators(properties.values(), beanFactory);
+
+            assertSharedObfuscators(toMap(properties.keySet(), obfuscators));
+        }
+
+        @Test
+        @DisplayName("collection with object factory")
+        void testCollectionWithObjectFactory() {
+            Map<String, ObfuscatorProperties> properties = createPropertiesMap();
+
+            List<Obfuscator> obfuscators = ObfuscatorProperties.createObfuscators(properties.values(), objectFactory());
+
+            assertSharedObfuscators(toMap(properties.keySet(), obfuscators));
+        }
+
+        @Test
+        @DisplayName("shared obfuscators are decorated once per name")
+        void testDecoratedObfuscators() {
+            Map<String, ObfuscatorProperties> properties = createPropertiesMap();
+            DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+            List<String> decoratedNames = new ArrayList<>();
+            beanFactory.registerSingleton("decorator", (ObfuscatorDecorator) (obfuscator, name) -> {
+                decoratedNames.add(name);
+                return obfuscator.untilLength(Integer.MAX_VALUE).then(Obfuscator.none());
+            });
+
+            Map<String, Obfuscator> obfuscators = ObfuscatorProperties.createObfuscators(properties, beanFactory);
+
+            assertEquals(6, obfuscators.size());
+            assertSame(obfuscators.get("portion1"), obfuscators.get("portion2"));
+            assertSame(obfuscators.get("portion1"), obfuscators.get("portion3"));
+            assertNotSame(obfuscators.get("portion1"), obfuscators.get("portion4"));
+            assertSame(obfuscators.get("provider1"), obfuscators.get("provider2"));
+            // The obfuscation modes are used as names, so the number of names does not grow with the number of properties
+            assertEquals(List.of("PORTION", "PORTION", "PROVIDER"), decoratedNames);
+        }
+
+        @Test
+        @DisplayName("shared obfuscators are decorated once per custom name")
+        void testDecoratedObfuscatorsWithCustomNames() {
+            Map<String, ObfuscatorProperties> properties = createPropertiesMap();
+            DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+            List<String> decoratedNames = new ArrayList<>();
+            beanFactory.registerSingleton("decorator", (ObfuscatorDecorator) (obfuscator, name) -> {
+                decoratedNames.add(name);
+                return obfuscator;
+            });
+
+            Map<String, Obfuscator> obfuscators = ObfuscatorProperties.createObfuscators(properties, beanFactory, Function.identity());
+
+            assertSharedObfuscators(obfuscators);
+            assertEquals(List.copyOf(properties.keySet()), decoratedNames);
+        }
+
+        @Test
+        @DisplayName("map with object factory uses overridden createObfuscator")
+        void testMapWithObjectFactoryAndSubclass() {
+            Map<String, ObfuscatorProperties> properties = new LinkedHashMap<>();
+            properties.put("fixed1", new FixedValueObfuscatorProperties());
+            properties.put("fixed2", new FixedValueObfuscatorProperties());
+            properties.put("portion", portionProperties(null, 4));
+
+            Map<String, Obfuscator> obfuscators = ObfuscatorProperties.createObfuscators(properties, objectFactory());
+
+            assertEquals(Obfuscator.fixedValue("<fixed>"), obfuscators.get("fixed1"));
+            assertSame(obfuscators.get("fixed1"), obfuscators.get("fixed2"));
+            // Properties objects of different classes do not share obfuscators, even with the same settings
+            assertEquals(Obfuscator.portion().keepAtEnd(4).build(), obfuscators.get("portion"));
+        }
+
+        @Test
+        @DisplayName("bean factory uses overridden createObfuscator")
+        void testBeanFactoryAndSubclass() {
+            Map<String, ObfuscatorProperties> properties = new LinkedHashMap<>();
+            properties.put("fixed1", new FixedValueObfuscatorProperties());
+            properties.put("fixed2", new FixedValueObfuscatorProperties());
+            DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+            Obfuscator expected = Obfuscator.fixedValue("<fixed>");
+
+            assertEquals(expected, new FixedValueObfuscatorProperties().createObfuscator(beanFactory));
+
+            List<Obfuscator> obfuscatorList = ObfuscatorProperties.createObfuscators(List.copyOf(properties.values()), beanFactory);
+            assertEquals(List.of(expected, expected), obfuscatorList);
+
+            Map<String, Obfuscator> obfuscatorMap = ObfuscatorProperties.createObfuscators(properties, beanFactory);
+            assertEquals(Map.of("fixed1", expected, "fixed2", expected), obfuscatorMap);
+
+            obfuscatorMap = ObfuscatorProperties.createObfuscators(properties, beanFactory, Function.identity());
+            assertEquals(Map.of("fixed1", expected, "fixed2", expected), obfuscatorMap);
+        }
+
+        @Test
+        @DisplayName("custom decorator names cannot be null")
+        void testNullDecoratorNames() {
+            Map<String, ObfuscatorProperties> properties = createPropertiesMap();
+            DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+            assertThrows(NullPointerException.class, () -> ObfuscatorProperties.createObfuscators(properties, beanFactory, null));
+            assertThrows(NullPointerException.class, () -> ObfuscatorProperties.createObfuscators(properties, beanFactory, k -> null));
+        }
+
+        @Test
+        @DisplayName("lookup map")
+        void testLookup() {
+            Map<String, ObfuscatorProperties> properties = createPropertiesMap();
+            DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+            Map<String, Obfuscator> obfuscators = ObfuscatorProperties.createObfuscatorLookup(properties, beanFactory);
+
+            assertSharedObfuscators(obfuscators);
+            assertNull(obfuscators.get("PORTION1"));
+            assertThrows(UnsupportedOperationException.class, () -> obfuscators.put("portion5", Obfuscator.none()));
+        }
+
+        @Test
+        @DisplayName("case-insensitive lookup map")
+        void testCaseInsensitiveLookup() {
+            Map<String, ObfuscatorProperties> properties = createPropertiesMap();
+            DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+            Map<String, Obfuscator> obfuscators = ObfuscatorProperties.createCaseInsensitiveObfuscatorLookup(properties, beanFactory);
+
+            assertSharedObfuscators(obfuscators);
+            assertSame(obfuscators.get("portion1"), obfuscators.get("PORTION1"));
+            assertSame(obfuscators.get("provider1"), obfuscators.get("Provider1"));
+            assertThrows(UnsupportedOperationException.class, () -> obfuscators.put("portion5", Obfuscator.none()));
+        }
+
+        @Test
+        @DisplayName("case-insensitive lookup map with keys that only differ in case")
+        void testCaseInsensitiveLookupWithDuplicateKeys() {
+            Map<String, ObfuscatorProperties> properties = Map.of("portion", portionProperties(null, 4), "PORTION", portionProperties(null, 2));
+            DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+            assertThrows(IllegalArgumentException.class, () -> ObfuscatorProperties.createCaseInsensitiveObfuscatorLookup(properties, beanFactory));
+        }
+
+        private ObjectFactory objectFactory() {
+            return new ObjectFactory() {
+                @Override
+                public <T> T instance(Class<T> type) {
+                    return assertDoesNotThrow(() -> {
+                        Constructor<T> constructor = type.getDeclaredConstructor();
+                        constructor.setAccessible(true);
+                        return constructor.newInstance();
+                    });
+                }
+            };
+        }
+
+        private Map<String, ObfuscatorProperties> createPropertiesMap() {
+            Map<String, ObfuscatorProperties> properties = new LinkedHashMap<>();
+            properties.put("portion1", portionProperties(null, 4));
+            properties.put("portion2", portionProperties(null, 4));
+            // The same effective settings as portion1 and portion2
+            properties.put("portion3", portionProperties(0, 4));
+            properties.put("portion4", portionProperties(null, 2));
+            properties.put("provider1", providerProperties());
+            properties.put("provider2", providerProperties());
+            return properties;
+        }
+
+        private ObfuscatorProperties portionProperties(Integer keepAtStart, Integer keepAtEnd) {
+            ObfuscatorProperties properties = new ObfuscatorProperties();
+            properties.setKeepAtStart(keepAtStart);
+            properties.setKeepAtEnd(keepAtEnd);
+            return properties;
+        }
+
+        private ObfuscatorProperties providerProperties() {
+            ObfuscatorProperties properties = new ObfuscatorProperties();
+            properties.setProviderClass(TestObfuscatorProvider.class);
+            return properties;
+        }
+
+        private Map<String, Obfuscator> toMap(Collection<String> keys, List<Obfuscator> obfuscators) {
+            Map<String, Obfuscator> result = new LinkedHashMap<>();
+            Iterator<Obfuscator> iterator = obfuscators.iterator();
+            keys.forEach(k -> result.put(k, iterator.next()));
+            return result;
+        }
+
+        private static final class FixedValueObfuscatorProperties extends ObfuscatorProperties {
+
+            private FixedValueObfuscatorProperties() {
+                setKeepAtEnd(4);
+            }
+
+            @Override
+            public Obfuscator createObfuscator(ObjectFactory objectFactory) {
+                return Obfuscator.fixedValue("<fixed>");
+            }
+        }
+
+        private void assertSharedObfuscators(Map<String, Obfuscator> obfuscators) {
+            assertEquals(6, obfuscators.size());
+
+            assertEquals(Obfuscator.portion().keepAtEnd(4).build(), obfuscators.get("portion1"));
+            assertSame(obfuscators.get("portion1"), obfuscators.get("portion2"));
+            assertSame(obfuscators.get("portion1"), obfuscators.get("portion3"));
+
+            assertEquals(Obfuscator.portion().keepAtEnd(2).build(), obfuscators.get("portion4"));
+
+            assertSame(obfuscators.get("provider1"), obfuscators.get("provider2"));
+        }
+    }
+
     @Nested
     @DisplayName("Spring Boot auto-setting of providerClass")
     class SpringBootSettingProviderClass {
@@ -850,6 +1255,109 @@ final class ObfuscatorPropertiesTest {
         }
     }
 
+    @Nested
+    @DisplayName("application startup")
+    class ApplicationStartupTest {
+
+        @Test
+        @DisplayName("single properties object")
+        void testSingleProperties() {
+            ObfuscatorProperties properties = new ObfuscatorProperties();
+            properties.setMode(ObfuscationMode.FIXED_LENGTH);
+            properties.setFixedLength(5);
+
+            BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(10);
+            DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+            beanFactory.setApplicationStartup(applicationStartup);
+
+            properties.createObfuscator(beanFactory);
+
+            List<StartupStep> steps = recordedSteps(applicationStartup);
+
+            assertEquals(1, steps.size());
+            assertEquals(ObfuscatorProperties.CREATE_OBFUSCATOR_STEP, steps.get(0).getName());
+            assertThat(tags(steps.get(0)), contains("mode=FIXED_LENGTH"));
+        }
+
+        @Test
+        @DisplayName("map of properties objects")
+        void testMapOfProperties() {
+            ObfuscatorProperties fixedLength = new ObfuscatorProperties();
+            fixedLength.setMode(ObfuscationMode.FIXED_LENGTH);
+            fixedLength.setFixedLength(5);
+
+            ObfuscatorProperties provider = new ObfuscatorProperties();
+            provider.setProviderClass(TestObfuscatorProvider.class);
+
+            BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(10);
+            DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+            beanFactory.setApplicationStartup(applicationStartup);
+
+            ObfuscatorProperties.createObfuscators(Map.of("fixedLength", fixedLength, "provider", provider), beanFactory);
+
+            List<StartupStep> steps = recordedSteps(applicationStartup);
+
+            assertEquals(2, steps.size());
+            assertThat(steps.stream().map(this::tags).toList(), containsInAnyOrder(
+                    List.of("mode=FIXED_LENGTH"),
+                    List.of("mode=PROVIDER", "providerClass=" + TestObfuscatorProvider.class.getName())));
+        }
+
+        @Test
+        @DisplayName("map of properties objects with shared settings")
+        void testMapOfPropertiesWithSharedSettings() {
+            ObfuscatorProperties fixedLength = new ObfuscatorProperties();
+            fixedLength.setMode(ObfuscationMode.FIXED_LENGTH);
+            fixedLength.setFixedLength(5);
+
+            ObfuscatorProperties otherFixedLength = new ObfuscatorProperties();
+            otherFixedLength.setFixedLength(5);
+
+            BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(10);
+            DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+            beanFactory.setApplicationStartup(applicationStartup);
+
+            ObfuscatorProperties.createObfuscators(Map.of("fixedLength", fixedLength, "otherFixedLength", otherFixedLength), beanFactory);
+
+            List<StartupStep> steps = recordedSteps(applicationStartup);
+
+            // Only one obfuscator is created
+            assertEquals(1, steps.size());
+            assertThat(tags(steps.get(0)), contains("mode=FIXED_LENGTH"));
+        }
+
+        private List<StartupStep> recordedSteps(BufferingApplicationStartup applicationStartup) {
+            return applicationStartup.getBufferedTimeline()
+                    .getEvents()
+                    .stream()
+                    .map(TimelineEvent::getStartupStep)
+                    .filter(step -> ObfuscatorProperties.CREATE_OBFUSCATOR_STEP.equals(step.getName()))
+                    .toList();
+        }
+
+        private List<String> tags(StartupStep step) {
+            List<String> tags = new ArrayList<>();
+            step.getTags().forEach(tag -> tags.add(tag.getKey() + "=" + tag.getValue()));
+            return tags;
+        }
+    }
+
+    @Validated
+    static class ValidatedObfuscatorProperties extends ObfuscatorProperties {
+        // only adds @Validated
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    static class ValidatedPropertiesProvider {
+
+        @Bean
+        @ConfigurationProperties(prefix = "obfuscator")
+        ValidatedObfuscatorProperties obfuscatorProperties() {
+            return new ValidatedObfuscatorProperties();
+        }
+    }
+
     @Configuration
     @EnableAutoConfiguration
     static class PropertiesProvider {
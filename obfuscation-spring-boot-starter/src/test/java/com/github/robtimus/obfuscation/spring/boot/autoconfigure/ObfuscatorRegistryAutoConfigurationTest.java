@@ -0,0 +1,177 @@
+/*
+ * ObfuscatorRegistryAutoConfigurationTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
+import com.github.robtimus.obfuscation.Obfuscated;
+import com.github.robtimus.obfuscation.Obfuscator;
+import com.github.robtimus.obfuscation.spring.NamedObfuscator;
+import com.github.robtimus.obfuscation.spring.ObfuscatorDecorator;
+import com.github.robtimus.obfuscation.spring.ObfuscatorRegistry;
+
+@SuppressWarnings("nls")
+class ObfuscatorRegistryAutoConfigurationTest {
+
+    private ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ObfuscatorRegistryAutoConfiguration.class));
+
+    @Test
+    @DisplayName("no properties configured")
+    void testNoPropertiesConfigured() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(ObfuscatorRegistry.class));
+    }
+
+    @Test
+    @DisplayName("properties configured")
+    void testPropertiesConfigured() {
+        contextRunner
+                .withPropertyValues(
+                        "obfuscation.obfuscators.password.fixed-value=<password>",
+                        "obfuscation.obfuscators.credit-card.keep-at-end=4",
+                        "obfuscation.obfuscators.token.fixed-value=<password>")
+                .run(context -> {
+                    ObfuscatorRegistry registry = context.getBean(ObfuscatorRegistry.class);
+
+                    assertThat(registry.names()).containsExactlyInAnyOrder("password", "credit-card", "token");
+                    assertThat(registry.obfuscator("password")).hasValue(Obfuscator.fixedValue("<password>"));
+                    assertThat(registry.obfuscator("credit-card")).hasValue(Obfuscator.portion().keepAtEnd(4).build());
+                    assertThat(registry.obfuscator("unknown")).isEmpty();
+                    // Obfuscators with the same settings are shared
+                    assertThat(registry.obfuscator("token").orElseThrow()).isSameAs(registry.obfuscator("password").orElseThrow());
+                });
+    }
+
+    @Test
+    @DisplayName("invalid properties configured")
+    void testInvalidPropertiesConfigured() {
+        contextRunner
+                .withPropertyValues(
+                        "obfuscation.obfuscators.password.fixed-value=<password>",
+                        "obfuscation.obfuscators.password.fixed-length=8")
+                .run(context -> {
+                    assertThat(context).hasFailed();
+                    assertThat(context.getStartupFailure()).rootCause()
+                            .isInstanceOf(IllegalStateException.class)
+                            .hasMessageContaining("obfuscation.obfuscators.password");
+                });
+    }
+
+    @Test
+    @DisplayName("obfuscators are decorated using their names")
+    void testDecorated() {
+        contextRunner
+                .withPropertyValues("obfuscation.obfuscators.password.fixed-value=<password>")
+                .withBean(ObfuscatorDecorator.class, () -> (obfuscator, name) -> Obfuscator.fixedValue("<" + name + ">"))
+                .run(context -> {
+                    ObfuscatorRegistry registry = context.getBean(ObfuscatorRegistry.class);
+
+                    assertThat(registry.obfuscator("password")).hasValue(Obfuscator.fixedValue("<password>"));
+                });
+    }
+
+    @Test
+    @DisplayName("existing bean present")
+    void testWithExistingBean() {
+        contextRunner
+                .withPropertyValues("obfuscation.obfuscators.password.fixed-value=<password>")
+                .withUserConfiguration(ExistingBeanProvider.class)
+                .run(context -> {
+                    ObfuscatorRegistry registry = context.getBean(ObfuscatorRegistry.class);
+
+                    assertThat(registry.names()).containsExactly("existing");
+                });
+    }
+
+    @Test
+    @DisplayName("injection by name")
+    void testInjection() {
+        contextRunner
+                .withConfiguration(AutoConfigurations.of(ObfuscatorSupportAutoConfiguration.class, ObfuscatedSupportAutoConfiguration.class))
+                .withPropertyValues(
+                        "obfuscation.obfuscators.password.fixed-value=<password>",
+                        "obfuscation.obfuscators.credit-card.keep-at-end=4",
+                        "obfuscation.obfuscator-support.qualified-obfuscators=true")
+                .withBean("creditCardNumber", String.class, () -> "1234567890123456")
+                .withUserConfiguration(BeanWithNamedObfuscators.class)
+                .run(context -> {
+                    BeanWithNamedObfuscators bean = context.getBean(BeanWithNamedObfuscators.class);
+
+                    assertThat(bean.passwordObfuscator).isEqualTo(Obfuscator.fixedValue("<password>"));
+                    assertThat(bean.qualifiedPasswordObfuscator).isSameAs(bean.passwordObfuscator);
+                    assertThat(bean.creditCardNumber).hasToString("************3456");
+                });
+    }
+
+    @Test
+    @DisplayName("qualifiers are not resolved by name by default")
+    void testQualifiedInjectionNotEnabled() {
+        contextRunner
+                .withConfiguration(AutoConfigurations.of(ObfuscatorSupportAutoConfiguration.class, ObfuscatedSupportAutoConfiguration.class))
+                .withPropertyValues("obfuscation.obfuscators.password.fixed-value=<password>")
+                .withUserConfiguration(BeanWithQualifiedObfuscator.class)
+                .run(context -> {
+                    BeanWithQualifiedObfuscator bean = context.getBean(BeanWithQualifiedObfuscator.class);
+
+                    // The qualifier is ignored, so the default obfuscator is injected
+                    assertThat(bean.qualifiedPasswordObfuscator).isEqualTo(Obfuscator.fixedLength(3));
+                });
+    }
+
+    @Configuration
+    static class ExistingBeanProvider {
+
+        @Bean
+        ObfuscatorRegistry existingRegistry() {
+            return ObfuscatorRegistry.of(Map.of("existing", Obfuscator.none()));
+        }
+    }
+
+    @Component
+    static class BeanWithNamedObfuscators {
+
+        @Autowired
+        @NamedObfuscator("password")
+        private Obfuscator passwordObfuscator;
+
+        @Autowired
+        @Qualifier("password")
+        private Obfuscator qualifiedPasswordObfuscator;
+
+        @Autowired
+        @NamedObfuscator("credit-card")
+        private Obfuscated<String> creditCardNumber;
+    }
+
+    @Component
+    static class BeanWithQualifiedObfuscator {
+
+        @Autowired
+        @Qualifier("password")
+        private Obfuscator qualifiedPasswordObfuscator;
+    }
+}
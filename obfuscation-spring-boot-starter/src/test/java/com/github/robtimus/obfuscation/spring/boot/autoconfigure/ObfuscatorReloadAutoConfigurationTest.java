@@ -0,0 +1,101 @@
+/*
+ * ObfuscatorReloadAutoConfigurationTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import com.github.robtimus.obfuscation.Obfuscator;
+
+@SuppressWarnings("nls")
+class ObfuscatorReloadAutoConfigurationTest {
+
+    private ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ObfuscatorAutoConfiguration.class, ObfuscatorReloadAutoConfiguration.class))
+            .withPropertyValues("obfuscation.default-obfuscator.fixed-length=8", "obfuscation.reload.enabled=true");
+
+    @Test
+    @DisplayName("reloaded on environment change")
+    void testReloadedOnEnvironmentChange() {
+        contextRunner.run(context -> {
+            Obfuscator obfuscator = context.getBean(Obfuscator.class);
+            assertThat(obfuscator.obfuscateText("value")).hasToString("********");
+
+            TestPropertyValues.of("obfuscation.default-obfuscator.fixed-length=4").applyTo(context);
+            // Spring Cloud rebinds @ConfigurationProperties beans in place before publishing the event
+            Binder.get(context.getEnvironment())
+                    .bind(ObfuscatorAutoConfiguration.PREFIX, Bindable.ofInstance(context.getBean(ObfuscatorProperties.class)));
+
+            context.publishEvent(new EnvironmentChangeEvent(context, Set.of("obfuscation.default-obfuscator.fixed-length")));
+
+            assertThat(obfuscator.obfuscateText("value")).hasToString("****");
+        });
+    }
+
+    @Test
+    @DisplayName("not reloaded on unrelated environment change")
+    void testNotReloadedOnUnrelatedEnvironmentChange() {
+        contextRunner.run(context -> {
+            Obfuscator obfuscator = context.getBean(Obfuscator.class);
+            ReloadableObfuscator reloadableObfuscator = context.getBean(ReloadableObfuscator.class);
+            Obfuscator currentObfuscator = reloadableObfuscator.currentObfuscator();
+
+            TestPropertyValues.of("obfuscation.default-obfuscator.fixed-length=4", "unrelated.key=value").applyTo(context);
+
+            context.publishEvent(new EnvironmentChangeEvent(context, Set.of("unrelated.key")));
+
+            assertThat(reloadableObfuscator.currentObfuscator()).isSameAs(currentObfuscator);
+            assertThat(obfuscator.obfuscateText("value")).hasToString("********");
+        });
+    }
+
+    @Test
+    @DisplayName("invalid properties on environment change")
+    void testInvalidPropertiesOnEnvironmentChange() {
+        contextRunner.run(context -> {
+            Obfuscator obfuscator = context.getBean(Obfuscator.class);
+
+            TestPropertyValues.of("obfuscation.default-obfuscator.fixed-value=<fixed>").applyTo(context);
+
+            EnvironmentChangeEvent event = new EnvironmentChangeEvent(context, Set.of("obfuscation.default-obfuscator.fixed-value"));
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () -> context.publishEvent(event));
+            assertThat(exception.getMessage()).contains(ObfuscatorAutoConfiguration.PREFIX);
+
+            assertThat(obfuscator.obfuscateText("value")).hasToString("********");
+        });
+    }
+
+    @Test
+    @DisplayName("without Spring Cloud")
+    void testWithoutSpringCloud() {
+        contextRunner.withClassLoader(new FilteredClassLoader(EnvironmentChangeEvent.class))
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ReloadableObfuscator.class);
+                    assertThat(context).doesNotHaveBean("reloadableObfuscatorListener");
+                });
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * ProviderCachingAutoConfigurationTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import com.github.robtimus.obfuscation.annotation.ObfuscatorProvider;
+import com.github.robtimus.obfuscation.annotation.ObjectFactory;
+import com.github.robtimus.obfuscation.spring.BeanFactoryObjectFactory;
+import com.github.robtimus.obfuscation.spring.ProviderCachingBeanFactoryPostProcessor;
+
+@SuppressWarnings("nls")
+class ProviderCachingAutoConfigurationTest {
+
+    private ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ProviderCachingAutoConfiguration.class));
+
+    @Test
+    @DisplayName("disabled by default")
+    void testDisabledByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(ProviderCachingBeanFactoryPostProcessor.class);
+
+            ObjectFactory objectFactory = new BeanFactoryObjectFactory(context.getAutowireCapableBeanFactory());
+            ObfuscatorProvider provider = objectFactory.instance(TestObfuscatorProvider.class);
+
+            assertThat(objectFactory.instance(TestObfuscatorProvider.class)).isNotSameAs(provider);
+        });
+    }
+
+    @Test
+    @DisplayName("enabled")
+    void testEnabled() {
+        contextRunner
+                .withPropertyValues("obfuscation.provider-caching.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ProviderCachingBeanFactoryPostProcessor.class);
+
+                    ObjectFactory objectFactory = new BeanFactoryObjectFactory(context.getAutowireCapableBeanFactory());
+                    ObfuscatorProvider provider = objectFactory.instance(TestObfuscatorProvider.class);
+
+                    assertThat(objectFactory.instance(TestObfuscatorProvider.class)).isSameAs(provider);
+                    assertThat(new BeanFactoryObjectFactory(context.getAutowireCapableBeanFactory()).instance(TestObfuscatorProvider.class))
+                            .isSameAs(provider);
+                });
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * ReloadableObfuscatorTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.boot.autoconfigure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import com.github.robtimus.obfuscation.Obfuscator;
+
+@SuppressWarnings("nls")
+class ReloadableObfuscatorTest {
+
+    private static final String PREFIX = "test.obfuscator";
+
+    private Map<String, Object> values;
+    private StandardEnvironment environment;
+    private ObfuscatorProperties properties;
+    private ReloadableObfuscator obfuscator;
+
+    @BeforeEach
+    void setup() {
+        values = new HashMap<>();
+        values.put(PREFIX + ".fixed-length", "8");
+
+        environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", values));
+
+        properties = new ObfuscatorProperties();
+        properties.setFixedLength(8);
+
+        obfuscator = new ReloadableObfuscator(properties, PREFIX, environment, new DefaultListableBeanFactory());
+    }
+
+    @Nested
+    @DisplayName("reload")
+    class ReloadTest {
+
+        @Test
+        @DisplayName("unchanged properties")
+        void testUnchangedProperties() {
+            Obfuscator current = obfuscator.currentObfuscator();
+
+            assertFalse(obfuscator.reload());
+
+            assertSame(current, obfuscator.currentObfuscator());
+        }
+
+        @Test
+        @DisplayName("unchanged effective settings")
+        void testUnchangedEffectiveSettings() {
+            Obfuscator current = obfuscator.currentObfuscator();
+
+            values.put(PREFIX + ".mask-char", "*");
+            values.put(PREFIX + ".mode", "FIXED_LENGTH");
+
+            assertFalse(obfuscator.reload());
+
+            assertSame(current, obfuscator.currentObfuscator());
+        }
+
+        @Test
+        @DisplayName("changed properties")
+        void testChangedProperties() {
+            values.put(PREFIX + ".fixed-length", "4");
+            values.put(PREFIX + ".mask-char", "x");
+
+            assertTrue(obfuscator.reload());
+
+            assertEquals(Obfuscator.fixedLength(4, 'x'), obfuscator.currentObfuscator());
+            assertEquals("xxxx", obfuscator.obfuscateText("value").toString());
+        }
+
+        @Test
+        @DisplayName("properties rebound in place")
+        void testPropertiesReboundInPlace() {
+            values.put(PREFIX + ".fixed-length", "4");
+            // Spring Cloud rebinds @ConfigurationProperties beans in place when the environment changes
+            Binder.get(environment).bind(PREFIX, Bindable.ofInstance(properties));
+
+            assertTrue(obfuscator.reload());
+
+            assertEquals(Obfuscator.fixedLength(4), obfuscator.currentObfuscator());
+        }
+
+        @Test
+        @DisplayName("changed obfuscation mode")
+        void testChangedObfuscationMode() {
+            values.remove(PREFIX + ".fixed-length");
+            values.put(PREFIX + ".keep-at-start", "2");
+
+            assertTrue(obfuscator.reload());
+
+            assertEquals(Obfuscator.portion().keepAtStart(2).build(), obfuscator.currentObfuscator());
+            assertEquals("va***", obfuscator.obfuscateText("value").toString());
+        }
+
+        @Test
+        @DisplayName("invalid properties")
+        void testInvalidProperties() {
+            Obfuscator current = obfuscator.currentObfuscator();
+
+            values.put(PREFIX + ".fixed-value", "<fixed>");
+
+            IllegalStateException exception = assertThrows(IllegalStateException.class, obfuscator::reload);
+            assertTrue(exception.getMessage().contains(PREFIX));
+
+            assertSame(current, obfuscator.currentObfuscator());
+
+            // A later valid reload is still possible
+            values.remove(PREFIX + ".fixed-value");
+            values.put(PREFIX + ".fixed-length", "4");
+
+            assertTrue(obfuscator.reload());
+            assertEquals(Obfuscator.fixedLength(4), obfuscator.currentObfuscator());
+        }
+
+        @Test
+        @DisplayName("concurrent obfuscation")
+        void testConcurrentObfuscation() throws Exception {
+            AtomicBoolean running = new AtomicBoolean(true);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                Future<?>[] futures = new Future<?>[4];
+                for (int i = 0; i < futures.length; i++) {
+                    futures[i] = executor.submit(() -> {
+                        while (running.get()) {
+                            String obfuscated = obfuscator.obfuscateText("value").toString();
+                            // Either the old or the new obfuscator is used, never a mix
+                            if (!"********".equals(obfuscated) && !"xxxx".equals(obfuscated)) {
+                                throw new IllegalStateException(obfuscated);
+                            }
+                        }
+                    });
+                }
+
+                values.put(PREFIX + ".fixed-length", "4");
+                values.put(PREFIX + ".mask-char", "x");
+                assertTrue(obfuscator.reload());
+
+                running.set(false);
+                for (Future<?> future : futures) {
+                    future.get(1, TimeUnit.MINUTES);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertEquals("xxxx", obfuscator.obfuscateText("value").toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("delegation")
+    class DelegationTest {
+
+        @Test
+        @DisplayName("obfuscateText variants")
+        void testObfuscateText() throws IOException {
+            assertEquals("********", obfuscator.obfuscateText("value").toString());
+            assertEquals("********", obfuscator.obfuscateText("value", 1, 3).toString());
+
+            StringBuilder sb = new StringBuilder();
+            obfuscator.obfuscateText("value", sb);
+            obfuscator.obfuscateText("value", 1, 3, sb);
+            assertEquals("****************", sb.toString());
+
+            StringBuffer buffer = new StringBuffer();
+            obfuscator.obfuscateText("value", buffer);
+            obfuscator.obfuscateText("value", 1, 3, buffer);
+            assertEquals("****************", buffer.toString());
+
+            StringBuilder appendable = new StringBuilder();
+            obfuscator.obfuscateText("value", (Appendable) appendable);
+            obfuscator.obfuscateText("value", 1, 3, (Appendable) appendable);
+            obfuscator.obfuscateText(new StringReader("value"), appendable);
+            assertEquals("************************", appendable.toString());
+
+            assertEquals("********", obfuscator.obfuscateText(new StringReader("value")).toString());
+        }
+
+        @Test
+        @DisplayName("streamTo")
+        void testStreamTo() throws IOException {
+            StringBuilder destination = new StringBuilder();
+            try (Writer writer = obfuscator.streamTo(destination)) {
+                writer.write("value");
+            }
+            assertEquals("********", destination.toString());
+        }
+
+        @Test
+        @DisplayName("toString")
+        void testToString() {
+            String string = obfuscator.toString();
+
+            assertTrue(string.contains(PREFIX));
+            assertTrue(string.contains(obfuscator.currentObfuscator().toString()));
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * StartupApplicationGenerator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.startup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+/**
+ * Generates and compiles Spring Boot applications with a configurable number of beans with obfuscation injection points.
+ * <p>
+ * Each generated bean has an {@code @Value} injected {@code Obfuscated<String>} field, an annotated {@code Obfuscator} constructor argument, and an
+ * autowired {@code Obfuscated<Payload>} field. The obfuscator annotations rotate between the available annotation types, and the payload types
+ * rotate between a fixed number of payload beans.
+ * <p>
+ * Applications without obfuscation support have the same beans with the same annotations, but use {@code String} and {@code Payload} instead of
+ * {@code Obfuscated<String>} and {@code Obfuscated<Payload>}, because these cannot be injected without obfuscation support.
+ * Both kinds of applications contain an {@code Obfuscator} bean.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("nls")
+final class StartupApplicationGenerator {
+
+    static final String PACKAGE_NAME = "com.github.robtimus.obfuscation.spring.startup.generated";
+    static final String APPLICATION_CLASS_NAME = PACKAGE_NAME + ".Application";
+
+    private static final int PAYLOAD_TYPE_COUNT = 100;
+
+    private static final String[] OBFUSCATOR_ANNOTATIONS = {
+            "@ObfuscateFixedLength(5)",
+            "@ObfuscateAll",
+            "@ObfuscatePortion(keepAtStart = 2, keepAtEnd = 2, fixedTotalLength = 8)",
+            "@ObfuscateFixedValue(\"<hidden>\")",
+    };
+
+    private StartupApplicationGenerator() {
+    }
+
+    /**
+     * Generates and compiles an application in a separate process, so generating and compiling does not load or JIT compile any classes in the
+     * current JVM.
+     *
+     * @param directory The directory to generate the application in.
+     * @param beanCount The number of beans with obfuscation injection points.
+     * @param obfuscationSupport {@code true} to use {@code Obfuscated} types, or {@code false} to use plain types.
+     * @return A class loader that can load the generated application; its parent is the class loader of this class.
+     */
+    static URLClassLoader generateInSeparateProcess(Path directory, int beanCount, boolean obfuscationSupport) {
+        Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+        ProcessBuilder processBuilder = new ProcessBuilder(java.toString(),
+                "-classpath", System.getProperty("java.class.path"),
+                StartupApplicationGenerator.class.getName(),
+                directory.toString(), Integer.toString(beanCount), Boolean.toString(obfuscationSupport))
+                .inheritIO();
+        try {
+            int exitCode = processBuilder.start().waitFor();
+            if (exitCode != 0) {
+                throw new IllegalStateException("Could not generate the application: " + exitCode);
+            }
+            return new URLClassLoader(new URL[] { classDirectory(directory).toUri().toURL() }, StartupApplicationGenerator.class.getClassLoader());
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Generates and compiles an application.
+     *
+     * @param args The directory to generate the application in, the number of beans with obfuscation injection points, and {@code true} to use
+     *                 {@code Obfuscated} types or {@code false} to use plain types.
+     */
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("Usage: StartupApplicationGenerator <directory> <beanCount> <obfuscationSupport>");
+        }
+        generate(Path.of(args[0]), Integer.parseInt(args[1]), Boolean.parseBoolean(args[2]));
+    }
+
+    private static void generate(Path directory, int beanCount, boolean obfuscationSupport) {
+        try {
+            Path sourceDirectory = Files.createDirectories(directory.resolve("src"));
+            Path classDirectory = Files.createDirectories(classDirectory(directory));
+            Path packageDirectory = Files.createDirectories(sourceDirectory.resolve(PACKAGE_NAME.replace('.', '/')));
+
+            List<String> sourceFiles = new ArrayList<>();
+            sourceFiles.add(write(packageDirectory, "Application", applicationSource()));
+            for (int i = 0; i < Math.min(beanCount, PAYLOAD_TYPE_COUNT); i++) {
+                sourceFiles.add(write(packageDirectory, "Payload" + i, payloadSource(i)));
+            }
+            for (int i = 0; i < beanCount; i++) {
+                sourceFiles.add(write(packageDirectory, "Bean" + i, beanSource(i, obfuscationSupport)));
+            }
+
+            compile(sourceFiles, classDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Path classDirectory(Path directory) {
+        return directory.resolve("classes");
+    }
+
+    private static String write(Path packageDirectory, String className, String source) throws IOException {
+        Path file = packageDirectory.resolve(className + ".java");
+        Files.writeString(file, source, StandardCharsets.UTF_8);
+        return file.toString();
+    }
+
+    private static void compile(List<String> sourceFiles, Path classDirectory) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No Java compiler available; run the benchmarks using a JDK");
+        }
+
+        List<String> arguments = new ArrayList<>();
+        arguments.add("-proc:none");
+        arguments.add("-nowarn");
+        arguments.add("-classpath");
+        arguments.add(System.getProperty("java.class.path"));
+        arguments.add("-d");
+        arguments.add(classDirectory.toString());
+        arguments.addAll(sourceFiles);
+
+        int result = compiler.run(null, null, null, arguments.toArray(String[]::new));
+        if (result != 0) {
+            throw new IllegalStateException("Could not compile the generated application: " + result);
+        }
+    }
+
+    private static String applicationSource() {
+        return """
+                package %s;
+
+                import org.springframework.boot.autoconfigure.SpringBootApplication;
+                import org.springframework.context.annotation.Bean;
+                import com.github.robtimus.obfuscation.Obfuscator;
+
+                @SpringBootApplication
+                public class Application {
+
+                    @Bean
+                    public Obfuscator obfuscator() {
+                        return Obfuscator.fixedLength(3);
+                    }
+                }
+                """.formatted(PACKAGE_NAME);
+    }
+
+    private static String payloadSource(int index) {
+        return """
+                package %s;
+
+                import org.springframework.stereotype.Component;
+
+                @Component
+                public class Payload%d {
+
+                    @Override
+                    public String toString() {
+                        return "payload%d";
+                    }
+                }
+                """.formatted(PACKAGE_NAME, index, index);
+    }
+
+    private static String beanSource(int index, boolean obfuscationSupport) {
+        String annotation = OBFUSCATOR_ANNOTATIONS[index % OBFUSCATOR_ANNOTATIONS.length];
+        String payloadType = "Payload" + index % PAYLOAD_TYPE_COUNT;
+        String valueType = obfuscationSupport ? "Obfuscated<String>" : "String";
+        String payloadFieldType = obfuscationSupport ? "Obfuscated<" + payloadType + ">" : payloadType;
+
+        return """
+                package %1$s;
+
+                import org.springframework.beans.factory.annotation.Autowired;
+                import org.springframework.beans.factory.annotation.Value;
+                import org.springframework.stereotype.Component;
+                import com.github.robtimus.obfuscation.Obfuscated;
+                import com.github.robtimus.obfuscation.Obfuscator;
+                import com.github.robtimus.obfuscation.annotation.ObfuscateAll;
+                import com.github.robtimus.obfuscation.annotation.ObfuscateFixedLength;
+                import com.github.robtimus.obfuscation.annotation.ObfuscateFixedValue;
+                import com.github.robtimus.obfuscation.annotation.ObfuscatePortion;
+
+                @Component
+                public class Bean%2$d {
+
+                    @Value("${generated.value%2$d:value%2$d}")
+                    %3$s
+                    private %4$s value;
+
+                    @Autowired
+                    %3$s
+                    private %5$s payload;
+
+                    private final Obfuscator obfuscator;
+
+                    public Bean%2$d(%3$s Obfuscator obfuscator) {
+                        this.obfuscator = obfuscator;
+                    }
+                }
+                """.formatted(PACKAGE_NAME, index, annotation, valueType, payloadFieldType);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * StartupBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.obfuscation.spring.startup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.DefaultResourceLoader;
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Benchmarks for starting Spring Boot applications with many obfuscation injection points.
+ * <p>
+ * Each trial generates and compiles an application with {@link #beanCount} beans using {@link StartupApplicationGenerator}. This is done in a
+ * separate process, so the classes needed for generating and compiling are not loaded and JIT compiled in the benchmark's fork. Each invocation
+ * starts this application and measures the time it takes until the application context is refreshed; closing the application context is not
+ * measured. If {@link #obfuscationSupport} is {@code false}, properties {@code obfuscation.obfuscator-support.enabled} and
+ * {@code obfuscation.obfuscated-support.enabled} are set to {@code false}.
+ * <p>
+ * To measure cold startup, each fork starts the application only once, without warm-up. The results are therefore spread across many forks.
+ * <p>
+ * Besides the startup time, the bytes that are allocated by the benchmark thread while starting the application are reported as
+ * {@code allocatedBytes}. Allocations by other threads are not included; use JMH's {@code gc} profiler ({@code -prof gc}) to include these.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+@SuppressWarnings({ "javadoc", "nls" })
+public class StartupBenchmark {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Param({ "1000", "10000" })
+    public int beanCount;
+
+    @Param({ "true", "false" })
+    public boolean obfuscationSupport;
+
+    private Path directory;
+    private URLClassLoader classLoader;
+    private Class<?> applicationClass;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void generateApplication() throws ClassNotFoundException, IOException {
+        directory = Files.createTempDirectory("obfuscation-startup-benchmark");
+        classLoader = StartupApplicationGenerator.generateInSeparateProcess(directory, beanCount, obfuscationSupport);
+        applicationClass = classLoader.loadClass(StartupApplicationGenerator.APPLICATION_CLASS_NAME);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteApplication() throws IOException {
+        classLoader.close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(StartupBenchmark::delete);
+        }
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.delete(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeContext() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext startup(Allocation allocation) {
+        long allocatedBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        context = new SpringApplicationBuilder(applicationClass)
+                .resourceLoader(new DefaultResourceLoader(classLoader))
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "obfuscation.obfuscator-support.enabled=" + obfuscationSupport,
+                        "obfuscation.obfuscated-support.enabled=" + obfuscationSupport)
+                .run();
+        allocation.allocatedBytes += THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedBytes;
+        return context;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Allocation {
+
+        public long allocatedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            allocatedBytes = 0;
+        }
+    }
+}